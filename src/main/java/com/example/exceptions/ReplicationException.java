@@ -0,0 +1,11 @@
+package com.example.exceptions;
+
+public class ReplicationException extends RuntimeException {
+    public ReplicationException(String message) {
+        super(message);
+    }
+
+    public ReplicationException(String message, Throwable cause) {
+        super(message, cause);
+    }
+}
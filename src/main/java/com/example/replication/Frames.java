@@ -0,0 +1,84 @@
+package com.example.replication;
+
+import com.example.scoreboard.Event;
+
+import java.io.DataInputStream;
+import java.io.DataOutputStream;
+import java.io.IOException;
+import java.nio.charset.StandardCharsets;
+
+/**
+ * Binary layout of replication frames. All values are big-endian,
+ * strings are UTF-8 bytes prefixed with their length (int).
+ * <pre>
+ * EVENTS:           type, first sequence (long), events count (int), events
+ *   MATCH_STARTED:  event code (byte), board id (int), home team, away team
+ *   SCORE_UPDATED:  event code (byte), board id (int), home score (int), away score (int)
+ *   MATCH_STOPPED:  event code (byte), board id (int)
+ * SNAPSHOT:         type, last sequence (long), matches count (int), matches in start order
+ *   match:          board id (int), home team, away team, home score (int), away score (int)
+ * </pre>
+ * Stream based transports prefix every frame with its length (int), at most <code>{@link #MAX_FRAME_SIZE}</code> bytes,
+ * and followers ask for a snapshot by sending a single SNAPSHOT_REQUEST byte.
+ */
+final class Frames {
+    static final byte EVENTS = 1;
+    static final byte SNAPSHOT = 2;
+    static final byte SNAPSHOT_REQUEST = 3;
+
+    static final int MAX_FRAME_SIZE = 64 * 1024 * 1024;
+
+    private static final byte MATCH_STARTED = 1;
+    private static final byte SCORE_UPDATED = 2;
+    private static final byte MATCH_STOPPED = 3;
+
+    private Frames() {
+    }
+
+    static void writeEvent(DataOutputStream output, Event event) throws IOException {
+        output.writeByte(switch (event) {
+            case MATCH_STARTED -> MATCH_STARTED;
+            case SCORE_UPDATED -> SCORE_UPDATED;
+            case MATCH_STOPPED -> MATCH_STOPPED;
+        });
+    }
+
+    static Event readEvent(DataInputStream input) throws IOException {
+        var code = input.readByte();
+        return switch (code) {
+            case MATCH_STARTED -> Event.MATCH_STARTED;
+            case SCORE_UPDATED -> Event.SCORE_UPDATED;
+            case MATCH_STOPPED -> Event.MATCH_STOPPED;
+            default -> throw new IOException(String.format("Unknown event code: [%s]", code));
+        };
+    }
+
+    static void writeString(DataOutputStream output, String value) throws IOException {
+        var bytes = value.getBytes(StandardCharsets.UTF_8);
+        output.writeInt(bytes.length);
+        output.write(bytes);
+    }
+
+    static String readString(DataInputStream input) throws IOException {
+        var length = input.readInt();
+        if (length <= 0 || length > input.available()) {
+            throw new IOException(String.format("Invalid string length: [%s]", length));
+        }
+        var bytes = new byte[length];
+        input.readFully(bytes);
+
+        var value = new String(bytes, StandardCharsets.UTF_8);
+        if (value.isBlank()) {
+            throw new IOException("Blank string");
+        }
+        return value;
+    }
+
+    static int readScore(DataInputStream input) throws IOException {
+        var score = input.readInt();
+        if (score < 0) {
+            throw new IOException(String.format("Negative score: [%s]", score));
+        }
+        return score;
+    }
+}
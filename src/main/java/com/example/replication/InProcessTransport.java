@@ -0,0 +1,61 @@
+package com.example.replication;
+
+import java.util.List;
+import java.util.concurrent.CopyOnWriteArrayList;
+
+/**
+ * A <code>{@link ReplicationTransport}</code> which delivers frames to followers of the same JVM.
+ * Frames are applied synchronously, on the thread which ships them: the caller of the leader or its linger thread.
+ * <pre>{@code
+ *     var transport = new InProcessTransport();
+ *     var leader = new ReplicationLeader(transport, 1);
+ *     transport.connect(follower);
+ * }</pre>
+ */
+public final class InProcessTransport implements ReplicationTransport {
+    private final List<ReplicationFollower> followers;
+
+    private volatile SnapshotSource snapshots;
+
+    public InProcessTransport() {
+        this.followers = new CopyOnWriteArrayList<>();
+    }
+
+    @Override
+    public void open(SnapshotSource snapshots) {
+        this.snapshots = snapshots;
+    }
+
+    /**
+     * Connects the follower. The follower catches up from a snapshot, so it may join at any time.
+     * @param follower A follower
+     * @throws IllegalStateException if the transport is not opened by a leader
+     */
+    public void connect(ReplicationFollower follower) {
+        var snapshots = this.snapshots;
+        if (snapshots == null) {
+            throw new IllegalStateException("Transport is not opened by a leader");
+        }
+
+        followers.add(follower);
+        follower.attach(() -> snapshots.sendSnapshot(follower::apply));
+    }
+
+    /**
+     * Disconnects the follower. The follower stops receiving frames.
+     * @param follower A follower
+     */
+    public void disconnect(ReplicationFollower follower) {
+        followers.remove(follower);
+    }
+
+    @Override
+    public void publish(byte[] frame) {
+        followers.forEach(follower -> follower.apply(frame));
+    }
+
+    @Override
+    public void close() {
+        followers.clear();
+    }
+}
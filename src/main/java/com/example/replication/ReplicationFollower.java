@@ -0,0 +1,261 @@
+package com.example.replication;
+
+import com.example.exceptions.MatchAlreadyStartedException;
+import com.example.exceptions.NoActiveMatchException;
+import com.example.exceptions.ReplicationException;
+import com.example.scoreboard.Event;
+import com.example.scoreboard.ObservableScoreBoard;
+import com.example.scoreboard.ReportableScoreBoard;
+import com.example.scoreboard.ScoreBoard;
+import com.example.scoreboard.ScoreBoardObserver;
+
+import java.io.ByteArrayInputStream;
+import java.io.DataInputStream;
+import java.io.IOException;
+import java.util.ArrayList;
+import java.util.Collection;
+import java.util.Collections;
+import java.util.HashMap;
+import java.util.HashSet;
+import java.util.List;
+import java.util.Map;
+import java.util.function.Supplier;
+
+/**
+ * Applies frames of <code>{@link ReplicationLeader}</code> to its own <code>{@link ReportableScoreBoard}</code>s.
+ * Observers added to the follower are added to every replicated scoreboard, for example:
+ * <pre>{@code
+ *     var summaryGenerator = new StringSummaryGenerator();
+ *     var follower = new ReplicationFollower();
+ *     follower.addObserver(summaryGenerator);
+ *     transport.connect(follower);
+ * }</pre>
+ * Events are applied strictly in sequence order. Already applied events are skipped.
+ * When a gap in sequence numbers is detected, or an event does not match the state of the replicated scoreboards,
+ * the follower drops events until it catches up from a snapshot.
+ * A snapshot updates still active matches in place, so observers only see the changes since the last applied event.
+ * Frames are applied on the thread of the transport, so observers should be read through the follower
+ * while frames are still arriving:
+ * <pre>{@code
+ *     var summary = follower.read(summaryGenerator::generateSummary);
+ * }</pre>
+ */
+public final class ReplicationFollower {
+    private final List<ScoreBoardObserver> observers;
+    private final Map<Integer, ObservableScoreBoard> scoreBoards;
+
+    private SnapshotRequester snapshotRequester;
+    private boolean awaitingSnapshot;
+    private volatile long lastAppliedSequence;
+
+    public ReplicationFollower() {
+        this.observers = new ArrayList<>();
+        this.scoreBoards = new HashMap<>();
+    }
+
+    /**
+     * Add observer to all replicated scoreboards.
+     * @param observer An observer
+     */
+    public synchronized void addObserver(ScoreBoardObserver observer) {
+        observers.add(observer);
+        scoreBoards.values().forEach(scoreBoard -> scoreBoard.addObserver(observer));
+    }
+
+    /**
+     * @return replicated scoreboards, including the ones without an active match
+     */
+    public synchronized Collection<ScoreBoard> getScoreBoards() {
+        return Collections.unmodifiableCollection(new ArrayList<>(scoreBoards.values()));
+    }
+
+    /**
+     * @return sequence number of the last applied event
+     */
+    public long getLastAppliedSequence() {
+        return lastAppliedSequence;
+    }
+
+    /**
+     * @return <code>true</code> if events are dropped until a snapshot is applied
+     */
+    public synchronized boolean isAwaitingSnapshot() {
+        return awaitingSnapshot;
+    }
+
+    /**
+     * Reads the state of replicated scoreboards or their observers, while no frame is being applied.
+     * @param reader reads the state, for example <code>{@link com.example.summary.SummaryGenerator#generateSummary()}</code>
+     * @return value returned by the reader
+     */
+    public synchronized <T> T read(Supplier<T> reader) {
+        return reader.get();
+    }
+
+    /**
+     * Applies a frame received from the leader. A malformed frame is rejected as a whole.
+     * @param frame binary frame
+     * @throws ReplicationException if the frame is malformed, or if events were missed
+     * and no <code>{@link SnapshotRequester}</code> is attached to catch up
+     */
+    public synchronized void apply(byte[] frame) {
+        try (var input = new DataInputStream(new ByteArrayInputStream(frame))) {
+            var type = input.readByte();
+            switch (type) {
+                case Frames.EVENTS -> applyEvents(readEvents(input));
+                case Frames.SNAPSHOT -> applySnapshot(input.readLong(), readMatches(input));
+                default -> throw new IOException(String.format("Unknown frame type: [%s]", type));
+            }
+        } catch (IOException e) {
+            throw new ReplicationException("Failed to decode frame", e);
+        }
+    }
+
+    /**
+     * Attaches the follower to a transport and requests a snapshot to catch up.
+     * Transports call it once, when the follower connects. Snapshots are passed to <code>{@link #apply(byte[])}</code>.
+     * @param snapshotRequester asks the leader for a snapshot on behalf of this follower
+     */
+    public void attach(SnapshotRequester snapshotRequester) {
+        synchronized (this) {
+            this.snapshotRequester = snapshotRequester;
+            awaitingSnapshot = true;
+        }
+        // requested outside the lock, as the leader may be publishing to this follower at the same time
+        snapshotRequester.requestSnapshot();
+    }
+
+    private void applyEvents(List<ReplicatedEvent> events) {
+        for (var event : events) {
+            if (awaitingSnapshot || event.sequence() <= lastAppliedSequence) {
+                continue;
+            }
+            if (event.sequence() != lastAppliedSequence + 1 || !applyEvent(event)) {
+                requestSnapshot();
+                continue;
+            }
+            lastAppliedSequence = event.sequence();
+        }
+    }
+
+    private boolean applyEvent(ReplicatedEvent event) {
+        var scoreBoard = getOrCreate(event.boardId());
+        try {
+            switch (event.event()) {
+                case MATCH_STARTED -> scoreBoard.startMatch(event.match().homeTeam(), event.match().awayTeam());
+                case SCORE_UPDATED -> scoreBoard.updateScore(event.match().homeScore(), event.match().awayScore());
+                case MATCH_STOPPED -> scoreBoard.finishMatch();
+            }
+            return true;
+        } catch (MatchAlreadyStartedException | NoActiveMatchException e) {
+            return false;
+        }
+    }
+
+    private void applySnapshot(long sequence, List<ReplicatedMatch> matches) {
+        if (!awaitingSnapshot && sequence < lastAppliedSequence) {
+            return;
+        }
+
+        var snapshotBoardIds = new HashSet<Integer>();
+        matches.forEach(match -> snapshotBoardIds.add(match.boardId()));
+        scoreBoards.forEach((boardId, scoreBoard) -> {
+            if (!snapshotBoardIds.contains(boardId) && scoreBoard.getHomeTeam().isPresent()) {
+                scoreBoard.finishMatch();
+            }
+        });
+
+        for (var match : matches) {
+            var scoreBoard = getOrCreate(match.boardId());
+            var isSameMatch = scoreBoard.getHomeTeam().filter(match.homeTeam()::equals).isPresent()
+                    && scoreBoard.getAwayTeam().filter(match.awayTeam()::equals).isPresent();
+            if (!isSameMatch) {
+                if (scoreBoard.getHomeTeam().isPresent()) {
+                    scoreBoard.finishMatch();
+                }
+                scoreBoard.startMatch(match.homeTeam(), match.awayTeam());
+            }
+            if (scoreBoard.getHomeScore().orElseThrow() != match.homeScore()
+                    || scoreBoard.getAwayScore().orElseThrow() != match.awayScore()) {
+                scoreBoard.updateScore(match.homeScore(), match.awayScore());
+            }
+        }
+
+        awaitingSnapshot = false;
+        lastAppliedSequence = sequence;
+    }
+
+    private void requestSnapshot() {
+        if (snapshotRequester == null) {
+            throw new ReplicationException(String.format(
+                    "Missed events after sequence [%s] and no snapshot requester is attached", lastAppliedSequence));
+        }
+        if (!awaitingSnapshot) {
+            awaitingSnapshot = true;
+            snapshotRequester.requestSnapshot();
+        }
+    }
+
+    private ObservableScoreBoard getOrCreate(int boardId) {
+        return scoreBoards.computeIfAbsent(boardId, id -> {
+            var scoreBoard = new ReportableScoreBoard();
+            observers.forEach(scoreBoard::addObserver);
+            return scoreBoard;
+        });
+    }
+
+    private static List<ReplicatedEvent> readEvents(DataInputStream input) throws IOException {
+        var sequence = input.readLong();
+        var count = readCount(input);
+
+        var events = new ArrayList<ReplicatedEvent>(count);
+        for (int i = 0; i < count; i++, sequence++) {
+            var event = Frames.readEvent(input);
+            var boardId = input.readInt();
+            var match = switch (event) {
+                case MATCH_STARTED -> new ReplicatedMatch(boardId, Frames.readString(input), Frames.readString(input), 0, 0);
+                case SCORE_UPDATED -> new ReplicatedMatch(boardId, null, null, Frames.readScore(input), Frames.readScore(input));
+                case MATCH_STOPPED -> null;
+            };
+            events.add(new ReplicatedEvent(sequence, event, boardId, match));
+        }
+        requireEnd(input);
+        return events;
+    }
+
+    private static List<ReplicatedMatch> readMatches(DataInputStream input) throws IOException {
+        var count = readCount(input);
+
+        var matches = new ArrayList<ReplicatedMatch>(count);
+        for (int i = 0; i < count; i++) {
+            matches.add(new ReplicatedMatch(
+                    input.readInt(),
+                    Frames.readString(input),
+                    Frames.readString(input),
+                    Frames.readScore(input),
+                    Frames.readScore(input)));
+        }
+        requireEnd(input);
+        return matches;
+    }
+
+    private static int readCount(DataInputStream input) throws IOException {
+        var count = input.readInt();
+        if (count < 0 || count > input.available()) {
+            throw new IOException(String.format("Invalid count: [%s]", count));
+        }
+        return count;
+    }
+
+    private static void requireEnd(DataInputStream input) throws IOException {
+        if (input.available() > 0) {
+            throw new IOException(String.format("Unexpected trailing bytes: [%s]", input.available()));
+        }
+    }
+
+    private record ReplicatedEvent(long sequence, Event event, int boardId, ReplicatedMatch match) {
+    }
+
+    private record ReplicatedMatch(int boardId, String homeTeam, String awayTeam, int homeScore, int awayScore) {
+    }
+}
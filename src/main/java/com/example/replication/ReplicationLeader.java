@@ -0,0 +1,244 @@
+package com.example.replication;
+
+import com.example.exceptions.ReplicationException;
+import com.example.scoreboard.Event;
+import com.example.scoreboard.ScoreBoard;
+import com.example.scoreboard.ScoreBoardObserver;
+
+import java.io.ByteArrayOutputStream;
+import java.io.DataOutputStream;
+import java.io.IOException;
+import java.time.Duration;
+import java.util.HashMap;
+import java.util.LinkedHashMap;
+import java.util.Map;
+import java.util.concurrent.Executors;
+import java.util.concurrent.ScheduledExecutorService;
+import java.util.concurrent.TimeUnit;
+import java.util.function.Consumer;
+
+/**
+ * Observer which replicates events of observed scoreboards to followers.
+ * Every event gets the next sequence number and is appended to the current batch.
+ * A batch is shipped as a single <code>{@link Frames#EVENTS}</code> frame over the transport
+ * when it reaches the max batch size, when its first event is older than the linger,
+ * or when <code>{@link #flush()}</code> is called.
+ * <pre>{@code
+ *     var leader = new ReplicationLeader(new InProcessTransport(), 64);
+ *     scoreBoardA.addObserver(leader);
+ *     scoreBoardA.startMatch("Brazil", "England");
+ * }</pre>
+ * A scoreboard observed after its match was started is replicated from its current state on its next update.
+ * The leader keeps its own copy of active matches, so snapshots may be requested from transport threads.
+ */
+public final class ReplicationLeader implements ScoreBoardObserver, SnapshotSource, AutoCloseable {
+    private static final Duration DEFAULT_LINGER = Duration.ofMillis(1);
+
+    private final ReplicationTransport transport;
+    private final int maxBatchSize;
+    private final long lingerNanos;
+    private final ScheduledExecutorService lingerScheduler;
+    private final Map<ScoreBoard, Integer> boardIds;
+    private final Map<Integer, MatchCopy> activeMatches;
+    private final ByteArrayOutputStream batchBytes;
+    private final ByteArrayOutputStream eventBytes;
+    private final DataOutputStream event;
+
+    private long sequence;
+    private int batchSize;
+    private long batchNumber;
+
+    /**
+     * Creates a leader, which ships a batch at most a millisecond after its first event.
+     * @param transport transport to ship frames over
+     * @param maxBatchSize max number of events in a single frame. Use 1 to ship every event immediately
+     */
+    public ReplicationLeader(ReplicationTransport transport, int maxBatchSize) {
+        this(transport, maxBatchSize, DEFAULT_LINGER);
+    }
+
+    /**
+     * @param transport transport to ship frames over
+     * @param maxBatchSize max number of events in a single frame. Use 1 to ship every event immediately
+     * @param linger max time the first event of a batch waits for the batch to be shipped
+     */
+    public ReplicationLeader(ReplicationTransport transport, int maxBatchSize, Duration linger) {
+        if (maxBatchSize <= 0) {
+            throw new IllegalArgumentException(
+                    String.format("Max batch size should be positive. Provided value: [%s]", maxBatchSize));
+        }
+        if (linger.isNegative()) {
+            throw new IllegalArgumentException(
+                    String.format("Linger should not be negative. Provided value: [%s]", linger));
+        }
+
+        this.transport = transport;
+        this.maxBatchSize = maxBatchSize;
+        this.lingerNanos = linger.toNanos();
+        this.lingerScheduler = Executors.newSingleThreadScheduledExecutor(runnable -> {
+            var thread = new Thread(runnable, "replication-leader-linger");
+            thread.setDaemon(true);
+            return thread;
+        });
+        this.boardIds = new HashMap<>();
+        this.activeMatches = new LinkedHashMap<>();
+        this.batchBytes = new ByteArrayOutputStream();
+        this.eventBytes = new ByteArrayOutputStream();
+        this.event = new DataOutputStream(eventBytes);
+        transport.open(this);
+    }
+
+    @Override
+    public synchronized void update(ScoreBoard scoreBoard, Event scoreBoardEvent) {
+        var boardId = boardIds.get(scoreBoard);
+        var match = boardId != null ? activeMatches.get(boardId) : null;
+
+        switch (scoreBoardEvent) {
+            case MATCH_STARTED -> {
+                boardId = boardIds.computeIfAbsent(scoreBoard, board -> boardIds.size());
+                appendStarted(boardId, startedMatch(boardId, scoreBoard));
+            }
+            case SCORE_UPDATED -> {
+                if (match == null) {
+                    // the match was started before the leader observed the scoreboard
+                    boardId = boardIds.computeIfAbsent(scoreBoard, board -> boardIds.size());
+                    match = startedMatch(boardId, scoreBoard);
+                    appendStarted(boardId, match);
+                }
+                match.homeScore = scoreBoard.getHomeScore().orElseThrow();
+                match.awayScore = scoreBoard.getAwayScore().orElseThrow();
+                append(boardId, Event.SCORE_UPDATED, match);
+            }
+            case MATCH_STOPPED -> {
+                if (match != null) {
+                    activeMatches.remove(boardId);
+                    append(boardId, Event.MATCH_STOPPED, match);
+                }
+            }
+        }
+    }
+
+    /**
+     * Ships the current batch, even if it is not full.
+     */
+    public synchronized void flush() {
+        if (batchSize == 0) {
+            return;
+        }
+
+        var frame = new ByteArrayOutputStream(batchBytes.size() + Byte.BYTES + Long.BYTES + Integer.BYTES);
+        try (var output = new DataOutputStream(frame)) {
+            output.writeByte(Frames.EVENTS);
+            output.writeLong(sequence - batchSize + 1);
+            output.writeInt(batchSize);
+            batchBytes.writeTo(output);
+        } catch (IOException e) {
+            throw new ReplicationException("Failed to encode frame", e);
+        }
+        batchBytes.reset();
+        batchSize = 0;
+        batchNumber++;
+
+        transport.publish(frame.toByteArray());
+    }
+
+    @Override
+    public synchronized void sendSnapshot(Consumer<byte[]> target) {
+        var frame = new ByteArrayOutputStream();
+        try (var output = new DataOutputStream(frame)) {
+            output.writeByte(Frames.SNAPSHOT);
+            output.writeLong(sequence);
+            output.writeInt(activeMatches.size());
+            for (var entry : activeMatches.entrySet()) {
+                var match = entry.getValue();
+                output.writeInt(entry.getKey());
+                Frames.writeString(output, match.homeTeam);
+                Frames.writeString(output, match.awayTeam);
+                output.writeInt(match.homeScore);
+                output.writeInt(match.awayScore);
+            }
+        } catch (IOException e) {
+            throw new ReplicationException("Failed to encode snapshot", e);
+        }
+
+        target.accept(frame.toByteArray());
+    }
+
+    /**
+     * @return sequence number of the last observed event
+     */
+    public synchronized long getSequence() {
+        return sequence;
+    }
+
+    /**
+     * Ships the current batch and closes the transport.
+     */
+    @Override
+    public synchronized void close() {
+        lingerScheduler.shutdownNow();
+        flush();
+        transport.close();
+    }
+
+    private MatchCopy startedMatch(int boardId, ScoreBoard scoreBoard) {
+        var match = new MatchCopy(scoreBoard.getHomeTeam().orElseThrow(), scoreBoard.getAwayTeam().orElseThrow());
+        activeMatches.put(boardId, match);
+        return match;
+    }
+
+    private void appendStarted(int boardId, MatchCopy match) {
+        append(boardId, Event.MATCH_STARTED, match);
+    }
+
+    private void append(int boardId, Event scoreBoardEvent, MatchCopy match) {
+        // the event is encoded aside, so a failure never leaves a partial event in the batch
+        eventBytes.reset();
+        try {
+            Frames.writeEvent(event, scoreBoardEvent);
+            event.writeInt(boardId);
+            switch (scoreBoardEvent) {
+                case MATCH_STARTED -> {
+                    Frames.writeString(event, match.homeTeam);
+                    Frames.writeString(event, match.awayTeam);
+                }
+                case SCORE_UPDATED -> {
+                    event.writeInt(match.homeScore);
+                    event.writeInt(match.awayScore);
+                }
+                case MATCH_STOPPED -> {
+                }
+            }
+            eventBytes.writeTo(batchBytes);
+        } catch (IOException e) {
+            throw new ReplicationException("Failed to encode event", e);
+        }
+
+        sequence++;
+        batchSize++;
+        if (batchSize == maxBatchSize) {
+            flush();
+        } else if (batchSize == 1 && !lingerScheduler.isShutdown()) {
+            var lingeringBatch = batchNumber;
+            lingerScheduler.schedule(() -> flushLingering(lingeringBatch), lingerNanos, TimeUnit.NANOSECONDS);
+        }
+    }
+
+    private synchronized void flushLingering(long lingeringBatch) {
+        if (batchNumber == lingeringBatch) {
+            flush();
+        }
+    }
+
+    private static final class MatchCopy {
+        private final String homeTeam;
+        private final String awayTeam;
+        private int homeScore;
+        private int awayScore;
+
+        private MatchCopy(String homeTeam, String awayTeam) {
+            this.homeTeam = homeTeam;
+            this.awayTeam = awayTeam;
+        }
+    }
+}
@@ -0,0 +1,28 @@
+package com.example.replication;
+
+/**
+ * A transport which ships replication frames from <code>{@link ReplicationLeader}</code> to followers.
+ * On the follower side, a transport passes received frames to <code>{@link ReplicationFollower#apply(byte[])}</code>
+ * and attaches a <code>{@link SnapshotRequester}</code> with <code>{@link ReplicationFollower#attach(SnapshotRequester)}</code>,
+ * so the follower can catch up when it connects or misses frames.
+ */
+public interface ReplicationTransport extends AutoCloseable {
+    /**
+     * Opens the transport. Called once by the leader, before any frame is published.
+     * @param snapshots source of snapshots for followers which need to catch up
+     */
+    void open(SnapshotSource snapshots);
+
+    /**
+     * Ships the frame to all connected followers.
+     * @param frame binary frame
+     */
+    void publish(byte[] frame);
+
+    /**
+     * Closes the transport. Followers stop receiving frames.
+     */
+    @Override
+    default void close() {
+    }
+}
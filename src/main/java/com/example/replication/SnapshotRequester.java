@@ -0,0 +1,12 @@
+package com.example.replication;
+
+/**
+ * Asks the leader for a snapshot on behalf of a follower, see <code>{@link ReplicationFollower#attach(SnapshotRequester)}</code>.
+ * The snapshot may be delivered synchronously or later, as a regular frame.
+ */
+public interface SnapshotRequester {
+    /**
+     * Requests a snapshot. Called by the follower when it connects and whenever it misses events.
+     */
+    void requestSnapshot();
+}
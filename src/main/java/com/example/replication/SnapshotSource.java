@@ -0,0 +1,16 @@
+package com.example.replication;
+
+import java.util.function.Consumer;
+
+/**
+ * A source of snapshot frames, used to catch up followers which joined late or missed frames.
+ */
+public interface SnapshotSource {
+    /**
+     * Builds a snapshot of all active matches and passes it to the target.
+     * No frame is published between building the snapshot and passing it to the target,
+     * so frames published later always follow the snapshot.
+     * @param target receiver of the snapshot frame
+     */
+    void sendSnapshot(Consumer<byte[]> target);
+}
@@ -0,0 +1,95 @@
+package com.example.replication;
+
+import com.example.exceptions.ReplicationException;
+
+import java.io.BufferedInputStream;
+import java.io.DataInputStream;
+import java.io.IOException;
+import java.io.OutputStream;
+import java.net.Socket;
+
+/**
+ * Connects a <code>{@link ReplicationFollower}</code> to a <code>{@link TcpReplicationServer}</code>.
+ * Frames are applied on a dedicated daemon thread of the client.
+ * The follower catches up from a snapshot right after connecting and after every detected gap.
+ * Malformed frames are logged and dropped. A frame with an invalid length closes the connection,
+ * as the rest of the stream cannot be read.
+ */
+public final class TcpReplicationClient implements AutoCloseable {
+    private static final System.Logger LOGGER = System.getLogger(TcpReplicationClient.class.getName());
+
+    private final Socket socket;
+    private final OutputStream requests;
+    private final ReplicationFollower follower;
+
+    /**
+     * @param host leader host
+     * @param port leader port
+     * @param follower follower to apply frames to
+     * @throws ReplicationException if the leader is not reachable
+     */
+    public TcpReplicationClient(String host, int port, ReplicationFollower follower) {
+        try {
+            this.socket = new Socket(host, port);
+            socket.setTcpNoDelay(true);
+            this.requests = socket.getOutputStream();
+        } catch (IOException e) {
+            throw new ReplicationException(String.format("Failed to connect to leader: [%s:%s]", host, port), e);
+        }
+        this.follower = follower;
+
+        var reader = new Thread(this::readFrames, "replication-client-" + socket.getLocalPort());
+        reader.setDaemon(true);
+        reader.start();
+        follower.attach(this::requestSnapshot);
+    }
+
+    /**
+     * @return <code>true</code> while frames are received from the leader
+     */
+    public boolean isConnected() {
+        return !socket.isClosed();
+    }
+
+    @Override
+    public void close() {
+        try {
+            socket.close();
+        } catch (IOException ignored) {
+            // the client is closing anyway
+        }
+    }
+
+    private void readFrames() {
+        try (var input = new DataInputStream(new BufferedInputStream(socket.getInputStream()))) {
+            while (true) {
+                var length = input.readInt();
+                if (length <= 0 || length > Frames.MAX_FRAME_SIZE) {
+                    LOGGER.log(System.Logger.Level.WARNING, "Invalid frame length: [{0}], disconnecting", length);
+                    return;
+                }
+                var frame = new byte[length];
+                input.readFully(frame);
+                try {
+                    follower.apply(frame);
+                } catch (ReplicationException e) {
+                    // the follower catches up from a snapshot once it detects the gap left by the dropped frame
+                    LOGGER.log(System.Logger.Level.WARNING, "Dropped malformed frame", e);
+                }
+            }
+        } catch (IOException e) {
+            // the connection is closed by the leader or by the client
+        } finally {
+            close();
+        }
+    }
+
+    private synchronized void requestSnapshot() {
+        try {
+            requests.write(Frames.SNAPSHOT_REQUEST);
+            requests.flush();
+        } catch (IOException e) {
+            close();
+        }
+    }
+}
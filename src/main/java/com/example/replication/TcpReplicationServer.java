@@ -0,0 +1,202 @@
+package com.example.replication;
+
+import com.example.exceptions.ReplicationException;
+
+import java.io.BufferedInputStream;
+import java.io.BufferedOutputStream;
+import java.io.DataOutputStream;
+import java.io.IOException;
+import java.net.InetAddress;
+import java.net.ServerSocket;
+import java.net.Socket;
+import java.util.List;
+import java.util.concurrent.ArrayBlockingQueue;
+import java.util.concurrent.BlockingQueue;
+import java.util.concurrent.CopyOnWriteArrayList;
+
+/**
+ * A <code>{@link ReplicationTransport}</code> which ships frames to <code>{@link TcpReplicationClient}</code>s
+ * over TCP. Every frame is prefixed with its length, Nagle's algorithm is disabled.
+ * The server listens on the loopback address only.
+ * <pre>{@code
+ *     var server = new TcpReplicationServer(0);
+ *     var leader = new ReplicationLeader(server, 64);
+ *     var client = new TcpReplicationClient("localhost", server.getPort(), follower);
+ * }</pre>
+ * Every follower has its own bounded queue of frames, written by its own thread, so a slow follower never blocks the leader.
+ * When the queue of a follower is full, its queued frames are dropped and replaced by a snapshot.
+ * A follower which fails to receive a frame is disconnected and should connect again.
+ */
+public final class TcpReplicationServer implements ReplicationTransport {
+    private static final int DEFAULT_MAX_QUEUED_FRAMES = 1024;
+    private static final System.Logger LOGGER = System.getLogger(TcpReplicationServer.class.getName());
+
+    private final ServerSocket serverSocket;
+    private final int maxQueuedFrames;
+    private final List<Connection> connections;
+
+    private volatile SnapshotSource snapshots;
+
+    /**
+     * Binds the server to the loopback address.
+     * @param port port to listen on. Use 0 to pick any free port
+     * @throws ReplicationException if the port cannot be bound
+     */
+    public TcpReplicationServer(int port) {
+        this(port, DEFAULT_MAX_QUEUED_FRAMES);
+    }
+
+    /**
+     * Binds the server to the loopback address.
+     * @param port port to listen on. Use 0 to pick any free port
+     * @param maxQueuedFrames max number of frames waiting to be written to a single follower
+     * @throws ReplicationException if the port cannot be bound
+     */
+    public TcpReplicationServer(int port, int maxQueuedFrames) {
+        if (maxQueuedFrames <= 0) {
+            throw new IllegalArgumentException(
+                    String.format("Max queued frames should be positive. Provided value: [%s]", maxQueuedFrames));
+        }
+        try {
+            this.serverSocket = new ServerSocket(port, 0, InetAddress.getLoopbackAddress());
+        } catch (IOException e) {
+            throw new ReplicationException(String.format("Failed to bind port: [%s]", port), e);
+        }
+        this.maxQueuedFrames = maxQueuedFrames;
+        this.connections = new CopyOnWriteArrayList<>();
+    }
+
+    /**
+     * @return port the server listens on
+     */
+    public int getPort() {
+        return serverSocket.getLocalPort();
+    }
+
+    @Override
+    public void open(SnapshotSource snapshots) {
+        this.snapshots = snapshots;
+        var acceptor = new Thread(this::acceptConnections, "replication-server-acceptor");
+        acceptor.setDaemon(true);
+        acceptor.start();
+    }
+
+    /**
+     * Queues the frame for all connected followers. Never blocks on the network.
+     * @param frame binary frame
+     */
+    @Override
+    public void publish(byte[] frame) {
+        connections.forEach(connection -> connection.enqueue(frame));
+    }
+
+    @Override
+    public void close() {
+        try {
+            serverSocket.close();
+        } catch (IOException ignored) {
+            // the server is closing anyway
+        }
+        connections.forEach(Connection::close);
+    }
+
+    private void acceptConnections() {
+        while (!serverSocket.isClosed()) {
+            try {
+                var socket = serverSocket.accept();
+                socket.setTcpNoDelay(true);
+                var connection = new Connection(socket);
+                connections.add(connection);
+                connection.start();
+            } catch (IOException e) {
+                // the server socket is closed or the follower disconnected during the handshake
+            }
+        }
+    }
+
+    private final class Connection {
+        private final Socket socket;
+        private final DataOutputStream output;
+        private final BlockingQueue<byte[]> frames;
+        private final Thread reader;
+        private final Thread writer;
+        private volatile boolean behind;
+
+        private Connection(Socket socket) throws IOException {
+            this.socket = socket;
+            this.output = new DataOutputStream(new BufferedOutputStream(socket.getOutputStream()));
+            this.frames = new ArrayBlockingQueue<>(maxQueuedFrames);
+            this.reader = new Thread(this::readRequests, "replication-server-reader-" + socket.getPort());
+            this.writer = new Thread(this::writeFrames, "replication-server-writer-" + socket.getPort());
+            reader.setDaemon(true);
+            writer.setDaemon(true);
+        }
+
+        private void start() {
+            reader.start();
+            writer.start();
+        }
+
+        /**
+         * Called by the leader, while no other frame can be published,
+         * so the snapshot covers all dropped frames.
+         */
+        private void enqueue(byte[] frame) {
+            if (!frames.offer(frame)) {
+                if (!behind) {
+                    behind = true;
+                    LOGGER.log(System.Logger.Level.WARNING,
+                            "Follower {0} fell behind, its queued frames are replaced by a snapshot", socket.getPort());
+                }
+                frames.clear();
+                snapshots.sendSnapshot(frames::offer);
+            }
+        }
+
+        private void readRequests() {
+            try (var input = new BufferedInputStream(socket.getInputStream())) {
+                int request;
+                while ((request = input.read()) != -1) {
+                    if (request == Frames.SNAPSHOT_REQUEST) {
+                        snapshots.sendSnapshot(this::enqueue);
+                    }
+                }
+            } catch (IOException e) {
+                // the follower disconnected
+            } finally {
+                close();
+            }
+        }
+
+        private void writeFrames() {
+            try {
+                while (!socket.isClosed()) {
+                    var frame = frames.take();
+                    output.writeInt(frame.length);
+                    output.write(frame);
+                    if (frames.isEmpty()) {
+                        output.flush();
+                        behind = false;
+                    }
+                }
+            } catch (IOException e) {
+                // the follower disconnected
+            } catch (InterruptedException e) {
+                Thread.currentThread().interrupt();
+            } finally {
+                close();
+            }
+        }
+
+        private void close() {
+            connections.remove(this);
+            frames.clear();
+            writer.interrupt();
+            try {
+                socket.close();
+            } catch (IOException ignored) {
+                // the connection is closing anyway
+            }
+        }
+    }
+}
@@ -2,7 +2,6 @@ package com.example.scoreboard;
 
 import com.example.exceptions.MatchAlreadyStartedException;
 import com.example.exceptions.NoActiveMatchException;
-import org.apache.commons.lang3.StringUtils;
 
 import java.util.Optional;
 
@@ -11,7 +10,6 @@ import java.util.Optional;
  * The implementation is Thread-unsafe.
  **/
 public final class DefaultScoreBoard implements ScoreBoard {
-    private static final String TEAMS_NAMES_INVALID_MESSAGE = "Teams names should not be null or empty. Provided names: [%s, %s]";
     private static final String NO_ACTIVE_MATCH_EXCEPTION_MESSAGE = "An active match was not found";
 
     private int homeScore;
@@ -33,7 +31,7 @@ public final class DefaultScoreBoard implements ScoreBoard {
     @Override
     public void startMatch(String homeTeam, String awayTeam) {
         if (!isMatchActive) {
-            validateNames(homeTeam, awayTeam);
+            ScoreBoardValidator.validateNames(homeTeam, awayTeam);
 
             this.homeTeam = homeTeam;
             this.awayTeam = awayTeam;
@@ -45,7 +43,7 @@ public final class DefaultScoreBoard implements ScoreBoard {
 
     @Override
     public void updateScore(int homeScore, int awayScore) {
-        validateScore(homeScore, awayScore);
+        ScoreBoardValidator.validateScore(homeScore, awayScore);
 
         if (isMatchActive) {
             this.homeScore = homeScore;
@@ -87,21 +85,6 @@ public final class DefaultScoreBoard implements ScoreBoard {
         return getIfMatchActive(awayTeam);
     }
 
-    private static void validateScore(int homeScore, int awayScore) {
-        if (homeScore < 0 || awayScore < 0) {
-            throw new IllegalArgumentException(
-                    String.format(
-                            "Score values should not be negative. Provided values: [%s, %s]", homeScore, awayScore));
-        }
-    }
-
-    private static void validateNames(String homeTeam, String awayTeam) {
-        if (StringUtils.isAnyBlank(homeTeam, awayTeam)) {
-            throw new IllegalArgumentException(
-                    String.format(TEAMS_NAMES_INVALID_MESSAGE, homeTeam, awayTeam));
-        }
-    }
-
     private <T> Optional<T> getIfMatchActive(T value) {
         return isMatchActive ? Optional.of(value) : Optional.empty();
     }
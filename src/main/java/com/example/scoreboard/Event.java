@@ -2,5 +2,6 @@ package com.example.scoreboard;
 
 public enum Event {
     MATCH_STARTED,
+    SCORE_UPDATED,
     MATCH_STOPPED
 }
@@ -0,0 +1,128 @@
+package com.example.scoreboard;
+
+import com.example.exceptions.MatchAlreadyStartedException;
+import com.example.exceptions.NoActiveMatchException;
+
+import java.util.Optional;
+
+/**
+ * A flyweight implementation of <code>{@link ScoreBoard}</code> interface,
+ * which reads and writes a scoreboard record of <code>{@link OffHeapScoreBoardStore}</code>.
+ * The view holds no match data itself, so it can be moved between records of the store:
+ * <pre>{@code
+ *     var scoreBoard = store.scoreBoard(0);
+ *     for (int i = 0; i < store.getCapacity(); i++) {
+ *         scoreBoard.moveTo(i).getHomeScore();
+ *     }
+ * }</pre>
+ * The implementation is Thread-unsafe.
+ **/
+public final class OffHeapScoreBoard implements ScoreBoard {
+    private static final String NO_ACTIVE_MATCH_EXCEPTION_MESSAGE = "An active match was not found";
+
+    private final OffHeapScoreBoardStore store;
+    private int index;
+    private int offset;
+
+    OffHeapScoreBoard(OffHeapScoreBoardStore store, int index) {
+        this.store = store;
+        moveTo(index);
+    }
+
+    /**
+     * Moves the view to another scoreboard of the store.
+     * @param index index of the scoreboard
+     * @return this view
+     * @throws IndexOutOfBoundsException if the index is outside the store capacity
+     */
+    public OffHeapScoreBoard moveTo(int index) {
+        this.offset = store.recordOffset(index);
+        this.index = index;
+        return this;
+    }
+
+    /**
+     * @return index of the scoreboard in the store
+     */
+    public int getIndex() {
+        return index;
+    }
+
+    @Override
+    public void startMatch(String homeTeam, String awayTeam) {
+        if (!isMatchActive()) {
+            ScoreBoardValidator.validateNames(homeTeam, awayTeam);
+            store.validateTeams(homeTeam, awayTeam);
+
+            var memory = store.memory();
+            memory.putInt(offset + OffHeapScoreBoardStore.RECORD_HOME_TEAM, store.teamId(homeTeam));
+            memory.putInt(offset + OffHeapScoreBoardStore.RECORD_AWAY_TEAM, store.teamId(awayTeam));
+            memory.putInt(offset + OffHeapScoreBoardStore.RECORD_HOME_SCORE, 0);
+            memory.putInt(offset + OffHeapScoreBoardStore.RECORD_AWAY_SCORE, 0);
+            memory.putLong(offset + OffHeapScoreBoardStore.RECORD_START_SEQUENCE, store.nextStartSequence());
+            memory.putInt(offset + OffHeapScoreBoardStore.RECORD_STATE, OffHeapScoreBoardStore.STATE_ACTIVE);
+        } else {
+            throw new MatchAlreadyStartedException("Match already started");
+        }
+    }
+
+    @Override
+    public void updateScore(int homeScore, int awayScore) {
+        ScoreBoardValidator.validateScore(homeScore, awayScore);
+
+        if (isMatchActive()) {
+            var memory = store.memory();
+            memory.putInt(offset + OffHeapScoreBoardStore.RECORD_HOME_SCORE, homeScore);
+            memory.putInt(offset + OffHeapScoreBoardStore.RECORD_AWAY_SCORE, awayScore);
+        } else {
+            throw new NoActiveMatchException(NO_ACTIVE_MATCH_EXCEPTION_MESSAGE);
+        }
+    }
+
+    @Override
+    public void finishMatch() {
+        if (isMatchActive()) {
+            store.memory().putInt(offset + OffHeapScoreBoardStore.RECORD_STATE, OffHeapScoreBoardStore.STATE_INACTIVE);
+        } else {
+            throw new NoActiveMatchException(NO_ACTIVE_MATCH_EXCEPTION_MESSAGE);
+        }
+    }
+
+    @Override
+    public Optional<Integer> getHomeScore() {
+        return isMatchActive() ? Optional.of(readInt(OffHeapScoreBoardStore.RECORD_HOME_SCORE)) : Optional.empty();
+    }
+
+    @Override
+    public Optional<Integer> getAwayScore() {
+        return isMatchActive() ? Optional.of(readInt(OffHeapScoreBoardStore.RECORD_AWAY_SCORE)) : Optional.empty();
+    }
+
+    @Override
+    public Optional<String> getHomeTeam() {
+        return isMatchActive() ? Optional.of(store.teamName(readInt(OffHeapScoreBoardStore.RECORD_HOME_TEAM))) : Optional.empty();
+    }
+
+    @Override
+    public Optional<String> getAwayTeam() {
+        return isMatchActive() ? Optional.of(store.teamName(readInt(OffHeapScoreBoardStore.RECORD_AWAY_TEAM))) : Optional.empty();
+    }
+
+    /**
+     * @return sequence number of the match start within the store. Greater values belong to more recently started matches.
+     * If no active match, returns empty <code>{@link Optional}</code>
+     */
+    public Optional<Long> getStartSequence() {
+        return isMatchActive()
+                ? Optional.of(store.memory().getLong(offset + OffHeapScoreBoardStore.RECORD_START_SEQUENCE))
+                : Optional.empty();
+    }
+
+    private boolean isMatchActive() {
+        return readInt(OffHeapScoreBoardStore.RECORD_STATE) == OffHeapScoreBoardStore.STATE_ACTIVE;
+    }
+
+    private int readInt(int field) {
+        return store.memory().getInt(offset + field);
+    }
+}
@@ -0,0 +1,291 @@
+package com.example.scoreboard;
+
+import com.example.exceptions.StorageException;
+
+import java.io.IOException;
+import java.nio.ByteBuffer;
+import java.nio.ByteOrder;
+import java.nio.MappedByteBuffer;
+import java.nio.channels.FileChannel;
+import java.nio.charset.StandardCharsets;
+import java.nio.file.Path;
+import java.nio.file.StandardOpenOption;
+import java.util.HashMap;
+import java.util.Map;
+
+/**
+ * Off-heap storage of a fixed number of scoreboards, accessed through <code>{@link OffHeapScoreBoard}</code> views.
+ * Every scoreboard is a fixed-width record, team names are stored once in a team table and referenced by id.
+ * The heap only holds a lookup of distinct team names, so heap usage does not depend on the number of stored
+ * matches as long as the set of teams is bounded, which the team capacity enforces.
+ * <pre>{@code
+ *     var store = new OffHeapScoreBoardStore(1_000_000, 64);
+ *     var scoreBoard = store.scoreBoard(0);
+ *     scoreBoard.startMatch("England", "Brazil");
+ * }</pre>
+ * The store is either backed by direct memory or memory-mapped from a file,
+ * in which case matches are restored instantly when the file is opened again.
+ * The implementation is Thread-unsafe.
+ */
+public final class OffHeapScoreBoardStore implements AutoCloseable {
+    private static final int MAGIC = 0x53434231;
+    private static final int VERSION = 1;
+
+    private static final int HEADER_SIZE = 32;
+    private static final int HEADER_MAGIC = 0;
+    private static final int HEADER_VERSION = 4;
+    private static final int HEADER_MATCH_CAPACITY = 8;
+    private static final int HEADER_TEAM_CAPACITY = 12;
+    private static final int HEADER_TEAM_COUNT = 16;
+    private static final int HEADER_START_SEQUENCE = 24;
+
+    private static final int TEAM_SIZE = 64;
+    private static final int MAX_TEAM_NAME_BYTES = TEAM_SIZE - 1;
+
+    static final int RECORD_SIZE = 32;
+    static final int RECORD_STATE = 0;
+    static final int RECORD_HOME_TEAM = 4;
+    static final int RECORD_AWAY_TEAM = 8;
+    static final int RECORD_HOME_SCORE = 12;
+    static final int RECORD_AWAY_SCORE = 16;
+    static final int RECORD_START_SEQUENCE = 24;
+
+    static final int STATE_INACTIVE = 0;
+    static final int STATE_ACTIVE = 1;
+
+    private final ByteBuffer memory;
+    private final int matchCapacity;
+    private final int teamCapacity;
+    private final int recordsOffset;
+    private final Map<String, Integer> teamIds;
+    private final String[] teamNames;
+
+    /**
+     * Allocates the store in direct memory. All scoreboards have no active match.
+     * @param matchCapacity number of scoreboards
+     * @param teamCapacity max number of distinct team names
+     */
+    public OffHeapScoreBoardStore(int matchCapacity, int teamCapacity) {
+        this(ByteBuffer.allocateDirect(size(matchCapacity, teamCapacity)), matchCapacity, teamCapacity);
+        writeHeader(matchCapacity, teamCapacity);
+    }
+
+    /**
+     * Maps the store from a file. A new file is created with all scoreboards having no active match,
+     * an existing file is opened with all its matches.
+     * @param file backing file
+     * @param matchCapacity number of scoreboards
+     * @param teamCapacity max number of distinct team names
+     * @throws StorageException if the file cannot be mapped, is not a scoreboard store,
+     * was created with different capacities or has a corrupted team table. Such a file is left unchanged
+     */
+    public OffHeapScoreBoardStore(Path file, int matchCapacity, int teamCapacity) {
+        this(map(file, matchCapacity, teamCapacity), matchCapacity, teamCapacity);
+
+        if (memory.getInt(HEADER_MAGIC) == 0) {
+            writeHeader(matchCapacity, teamCapacity);
+        } else {
+            loadTeams(file);
+        }
+    }
+
+    private OffHeapScoreBoardStore(ByteBuffer memory, int matchCapacity, int teamCapacity) {
+        this.memory = memory.order(ByteOrder.LITTLE_ENDIAN);
+        this.matchCapacity = matchCapacity;
+        this.teamCapacity = teamCapacity;
+        this.recordsOffset = HEADER_SIZE + teamCapacity * TEAM_SIZE;
+        this.teamIds = new HashMap<>();
+        this.teamNames = new String[teamCapacity];
+    }
+
+    /**
+     * @return number of scoreboards in the store
+     */
+    public int getCapacity() {
+        return matchCapacity;
+    }
+
+    /**
+     * Creates a view of a stored scoreboard. The view can be moved to other scoreboards
+     * with <code>{@link OffHeapScoreBoard#moveTo(int)}</code>, to iterate over the store without allocations.
+     * @param index index of the scoreboard
+     * @return view of the scoreboard
+     * @throws IndexOutOfBoundsException if the index is outside the store capacity
+     */
+    public OffHeapScoreBoard scoreBoard(int index) {
+        return new OffHeapScoreBoard(this, index);
+    }
+
+    /**
+     * Writes changes of a memory-mapped store to its file. Does nothing for a store in direct memory.
+     */
+    public void force() {
+        if (memory instanceof MappedByteBuffer mappedMemory) {
+            mappedMemory.force();
+        }
+    }
+
+    /**
+     * Writes changes of a memory-mapped store to its file. The memory is released once the store is unreachable.
+     */
+    @Override
+    public void close() {
+        force();
+    }
+
+    int recordOffset(int index) {
+        if (index < 0 || index >= matchCapacity) {
+            throw new IndexOutOfBoundsException(
+                    String.format("Scoreboard index is out of store capacity. Provided index: [%s]", index));
+        }
+        return recordsOffset + index * RECORD_SIZE;
+    }
+
+    ByteBuffer memory() {
+        return memory;
+    }
+
+    int teamId(String teamName) {
+        var teamId = teamIds.get(teamName);
+        return teamId != null ? teamId : addTeam(teamName);
+    }
+
+    String teamName(int teamId) {
+        if (teamId < 0 || teamId >= teamCapacity || teamNames[teamId] == null) {
+            throw new StorageException(String.format("Record refers to an unknown team id: [%s]", teamId));
+        }
+        return teamNames[teamId];
+    }
+
+    /**
+     * Checks that both teams can be resolved to ids, before any of them is added to the team table.
+     */
+    void validateTeams(String homeTeam, String awayTeam) {
+        var newTeams = 0;
+        if (!teamIds.containsKey(homeTeam)) {
+            validateTeamName(homeTeam);
+            newTeams++;
+        }
+        if (!teamIds.containsKey(awayTeam) && !awayTeam.equals(homeTeam)) {
+            validateTeamName(awayTeam);
+            newTeams++;
+        }
+        if (memory.getInt(HEADER_TEAM_COUNT) + newTeams > teamCapacity) {
+            throw new StorageException(String.format("Team capacity exceeded. Capacity: [%s]", teamCapacity));
+        }
+    }
+
+    long nextStartSequence() {
+        var sequence = memory.getLong(HEADER_START_SEQUENCE) + 1;
+        memory.putLong(HEADER_START_SEQUENCE, sequence);
+        return sequence;
+    }
+
+    private int addTeam(String teamName) {
+        var bytes = validateTeamName(teamName);
+        var teamId = memory.getInt(HEADER_TEAM_COUNT);
+        if (teamId == teamCapacity) {
+            throw new StorageException(String.format("Team capacity exceeded. Capacity: [%s]", teamCapacity));
+        }
+
+        var offset = HEADER_SIZE + teamId * TEAM_SIZE;
+        memory.put(offset, (byte) bytes.length);
+        memory.put(offset + 1, bytes);
+        memory.putInt(HEADER_TEAM_COUNT, teamId + 1);
+
+        teamIds.put(teamName, teamId);
+        teamNames[teamId] = teamName;
+        return teamId;
+    }
+
+    private static byte[] validateTeamName(String teamName) {
+        var bytes = teamName.getBytes(StandardCharsets.UTF_8);
+        if (bytes.length > MAX_TEAM_NAME_BYTES) {
+            throw new IllegalArgumentException(
+                    String.format("Team name should not exceed %d bytes. Provided name: [%s]", MAX_TEAM_NAME_BYTES, teamName));
+        }
+        return bytes;
+    }
+
+    private void loadTeams(Path file) {
+        var teamCount = memory.getInt(HEADER_TEAM_COUNT);
+        if (teamCount < 0 || teamCount > teamCapacity) {
+            throw new StorageException(String.format("File has an invalid team count: [%s, %s]", teamCount, file));
+        }
+        for (int teamId = 0; teamId < teamCount; teamId++) {
+            var offset = HEADER_SIZE + teamId * TEAM_SIZE;
+            var length = memory.get(offset);
+            if (length < 1 || length > MAX_TEAM_NAME_BYTES) {
+                throw new StorageException(String.format(
+                        "File has an invalid team name length: [%s, %s]", length, file));
+            }
+            var bytes = new byte[length];
+            memory.get(offset + 1, bytes);
+
+            var teamName = new String(bytes, StandardCharsets.UTF_8);
+            if (teamIds.put(teamName, teamId) != null) {
+                throw new StorageException(String.format("File has a duplicated team name: [%s, %s]", teamName, file));
+            }
+            teamNames[teamId] = teamName;
+        }
+    }
+
+    private void writeHeader(int matchCapacity, int teamCapacity) {
+        memory.putInt(HEADER_MAGIC, MAGIC);
+        memory.putInt(HEADER_VERSION, VERSION);
+        memory.putInt(HEADER_MATCH_CAPACITY, matchCapacity);
+        memory.putInt(HEADER_TEAM_CAPACITY, teamCapacity);
+    }
+
+    private static void validateHeader(Path file, ByteBuffer header, int matchCapacity, int teamCapacity) {
+        if (header.getInt(HEADER_MAGIC) != MAGIC || header.getInt(HEADER_VERSION) != VERSION) {
+            throw new StorageException(String.format("File is not a scoreboard store: [%s]", file));
+        }
+        if (header.getInt(HEADER_MATCH_CAPACITY) != matchCapacity || header.getInt(HEADER_TEAM_CAPACITY) != teamCapacity) {
+            throw new StorageException(String.format(
+                    "File was created with different capacities: [%s, %s]",
+                    header.getInt(HEADER_MATCH_CAPACITY), header.getInt(HEADER_TEAM_CAPACITY)));
+        }
+    }
+
+    private static int size(int matchCapacity, int teamCapacity) {
+        if (matchCapacity <= 0 || teamCapacity <= 0) {
+            throw new IllegalArgumentException(String.format(
+                    "Capacities should be positive. Provided values: [%s, %s]", matchCapacity, teamCapacity));
+        }
+        var size = HEADER_SIZE + (long) teamCapacity * TEAM_SIZE + (long) matchCapacity * RECORD_SIZE;
+        if (size > Integer.MAX_VALUE) {
+            throw new IllegalArgumentException(String.format(
+                    "Store size should not exceed %d bytes. Provided capacities: [%s, %s]",
+                    Integer.MAX_VALUE, matchCapacity, teamCapacity));
+        }
+        return (int) size;
+    }
+
+    /**
+     * Maps the file. An existing file is validated through the channel first, so it is never resized unless it is empty.
+     */
+    private static MappedByteBuffer map(Path file, int matchCapacity, int teamCapacity) {
+        var size = size(matchCapacity, teamCapacity);
+        try (var channel = FileChannel.open(
+                file, StandardOpenOption.CREATE, StandardOpenOption.READ, StandardOpenOption.WRITE)) {
+            var fileSize = channel.size();
+            if (fileSize > 0) {
+                if (fileSize < HEADER_SIZE) {
+                    throw new StorageException(String.format("File is not a scoreboard store: [%s]", file));
+                }
+                var header = ByteBuffer.allocate(HEADER_SIZE).order(ByteOrder.LITTLE_ENDIAN);
+                while (header.hasRemaining() && channel.read(header, header.position()) >= 0) {
+                    // reads the whole header
+                }
+                validateHeader(file, header, matchCapacity, teamCapacity);
+                if (fileSize < size) {
+                    throw new StorageException(String.format("File is truncated: [%s]", file));
+                }
+            }
+            return channel.map(FileChannel.MapMode.READ_WRITE, 0, size);
+        } catch (IOException e) {
+            throw new StorageException(String.format("Failed to map file: [%s]", file), e);
+        }
+    }
+}
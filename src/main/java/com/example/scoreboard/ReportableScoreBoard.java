@@ -43,6 +43,7 @@ public final class ReportableScoreBoard implements ObservableScoreBoard {
     @Override
     public void updateScore(int homeScore, int awayScore) {
         defaultScoreBoard.updateScore(homeScore, awayScore);
+        observers.forEach(observer -> observer.update(this, Event.SCORE_UPDATED));
     }
 
     @Override
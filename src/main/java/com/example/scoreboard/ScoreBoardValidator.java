@@ -0,0 +1,28 @@
+package com.example.scoreboard;
+
+import org.apache.commons.lang3.StringUtils;
+
+/**
+ * Validation rules shared by <code>{@link ScoreBoard}</code> implementations.
+ */
+final class ScoreBoardValidator {
+    private static final String TEAMS_NAMES_INVALID_MESSAGE = "Teams names should not be null or empty. Provided names: [%s, %s]";
+
+    private ScoreBoardValidator() {
+    }
+
+    static void validateScore(int homeScore, int awayScore) {
+        if (homeScore < 0 || awayScore < 0) {
+            throw new IllegalArgumentException(
+                    String.format(
+                            "Score values should not be negative. Provided values: [%s, %s]", homeScore, awayScore));
+        }
+    }
+
+    static void validateNames(String homeTeam, String awayTeam) {
+        if (StringUtils.isAnyBlank(homeTeam, awayTeam)) {
+            throw new IllegalArgumentException(
+                    String.format(TEAMS_NAMES_INVALID_MESSAGE, homeTeam, awayTeam));
+        }
+    }
+}
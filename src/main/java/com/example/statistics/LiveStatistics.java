@@ -0,0 +1,200 @@
+package com.example.statistics;
+
+import com.example.scoreboard.Event;
+import com.example.scoreboard.ScoreBoard;
+import com.example.scoreboard.ScoreBoardObserver;
+
+import java.time.Clock;
+import java.time.Duration;
+import java.util.ArrayList;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+
+/**
+ * Observer which aggregates live statistics of all observed matches:
+ * goals scored during the last minute, the busiest matches of the last minutes and the total tournament score.
+ * <pre>{@code
+ *     var statistics = new LiveStatistics();
+ *     scoreBoardA.addObserver(statistics);
+ *     statistics.getGoalsPerMinute();
+ * }</pre>
+ * Score deltas are derived from <code>{@link Event#SCORE_UPDATED}</code> events and stored in a ring buffer of
+ * one second buckets, so both updates and queries cost the same regardless of the number of observed scoreboards.
+ * Only score increases are counted as goals. Score corrections, which lower the score, only affect the total score.
+ * The implementation is Thread-unsafe.
+ */
+public final class LiveStatistics implements ScoreBoardObserver {
+    private static final long BUCKET_MILLIS = 1000;
+    private static final int RATE_WINDOW_BUCKETS = 60;
+    private static final long NO_EPOCH = -1;
+    private static final Duration DEFAULT_MOVERS_WINDOW = Duration.ofMinutes(5);
+    private static final int DEFAULT_TOP_MOVERS_LIMIT = 5;
+
+    private final Clock clock;
+    private final int topMoversLimit;
+    private final int capacity;
+    private final long[] bucketEpochs;
+    private final long[] bucketGoals;
+    private final List<List<GoalEntry>> bucketEntries;
+    private final Map<ScoreBoard, MatchState> matches;
+    private final MoverIndex moverIndex;
+
+    private long currentEpoch;
+    private long goalsInRateWindow;
+    private long totalScore;
+
+    public LiveStatistics() {
+        this(Clock.systemUTC(), DEFAULT_MOVERS_WINDOW, DEFAULT_TOP_MOVERS_LIMIT);
+    }
+
+    /**
+     * @param clock clock used to assign score updates to time buckets
+     * @param moversWindow time window of the top movers. Should be at least one minute
+     * @param topMoversLimit max number of matches returned by <code>{@link #getTopMovers()}</code>
+     */
+    public LiveStatistics(Clock clock, Duration moversWindow, int topMoversLimit) {
+        if (moversWindow.toMillis() < RATE_WINDOW_BUCKETS * BUCKET_MILLIS) {
+            throw new IllegalArgumentException(
+                    String.format("Movers window should be at least one minute. Provided value: [%s]", moversWindow));
+        }
+        if (topMoversLimit <= 0) {
+            throw new IllegalArgumentException(
+                    String.format("Top movers limit should be positive. Provided value: [%s]", topMoversLimit));
+        }
+
+        this.clock = clock;
+        this.topMoversLimit = topMoversLimit;
+        this.capacity = (int) (moversWindow.toMillis() / BUCKET_MILLIS);
+        this.bucketEpochs = new long[capacity];
+        this.bucketGoals = new long[capacity];
+        this.bucketEntries = new ArrayList<>(capacity);
+        for (int i = 0; i < capacity; i++) {
+            bucketEpochs[i] = NO_EPOCH;
+            bucketEntries.add(new ArrayList<>());
+        }
+        this.matches = new HashMap<>();
+        this.moverIndex = new MoverIndex();
+        this.currentEpoch = currentEpoch();
+    }
+
+    @Override
+    public void update(ScoreBoard scoreBoard, Event scoreBoardEvent) {
+        advance();
+        switch (scoreBoardEvent) {
+            case MATCH_STARTED -> matches.put(scoreBoard, new MatchState(scoreBoard));
+            case SCORE_UPDATED -> onScoreUpdated(scoreBoard);
+            case MATCH_STOPPED -> onMatchStopped(scoreBoard);
+        }
+    }
+
+    /**
+     * @return number of goals scored in all observed matches during the last minute
+     */
+    public long getGoalsPerMinute() {
+        advance();
+        return goalsInRateWindow;
+    }
+
+    /**
+     * @return active matches with the most goals scored within the movers window, the busiest first.
+     * Matches without goals in the window are not returned
+     */
+    public List<ScoreBoard> getTopMovers() {
+        advance();
+        return moverIndex.top(topMoversLimit).stream()
+                .map(match -> match.scoreBoard)
+                .toList();
+    }
+
+    /**
+     * @return sum of scores of all observed matches, including the finished ones
+     */
+    public long getTotalScore() {
+        return totalScore;
+    }
+
+    private void onScoreUpdated(ScoreBoard scoreBoard) {
+        var match = matches.get(scoreBoard);
+        if (match == null) {
+            return;
+        }
+
+        var matchTotalScore = scoreBoard.getHomeScore().orElseThrow() + scoreBoard.getAwayScore().orElseThrow();
+        var delta = matchTotalScore - match.lastTotalScore;
+        match.lastTotalScore = matchTotalScore;
+        totalScore += delta;
+
+        if (delta > 0) {
+            var slot = slot(currentEpoch);
+            bucketEpochs[slot] = currentEpoch;
+            bucketGoals[slot] += delta;
+            bucketEntries.get(slot).add(new GoalEntry(match, delta));
+            goalsInRateWindow += delta;
+
+            match.windowGoals += delta;
+            moverIndex.update(match);
+        }
+    }
+
+    private void onMatchStopped(ScoreBoard scoreBoard) {
+        var match = matches.remove(scoreBoard);
+        if (match != null) {
+            match.active = false;
+            moverIndex.remove(match);
+        }
+    }
+
+    private void advance() {
+        var epoch = currentEpoch();
+        if (epoch <= currentEpoch) {
+            return;
+        }
+
+        if (epoch - currentEpoch >= capacity) {
+            for (int slot = 0; slot < capacity; slot++) {
+                expire(slot);
+            }
+            goalsInRateWindow = 0;
+        } else {
+            for (var entering = currentEpoch + 1; entering <= epoch; entering++) {
+                var leavingRateWindow = entering - RATE_WINDOW_BUCKETS;
+                var leavingSlot = slot(leavingRateWindow);
+                if (leavingRateWindow >= 0 && bucketEpochs[leavingSlot] == leavingRateWindow) {
+                    goalsInRateWindow -= bucketGoals[leavingSlot];
+                }
+                expire(slot(entering));
+            }
+        }
+        currentEpoch = epoch;
+    }
+
+    private void expire(int slot) {
+        if (bucketEpochs[slot] == NO_EPOCH) {
+            return;
+        }
+
+        var entries = bucketEntries.get(slot);
+        for (var entry : entries) {
+            var match = entry.match();
+            match.windowGoals -= entry.goals();
+            if (match.active) {
+                moverIndex.update(match);
+            }
+        }
+        entries.clear();
+        bucketGoals[slot] = 0;
+        bucketEpochs[slot] = NO_EPOCH;
+    }
+
+    private int slot(long epoch) {
+        return (int) Math.floorMod(epoch, (long) capacity);
+    }
+
+    private long currentEpoch() {
+        return clock.millis() / BUCKET_MILLIS;
+    }
+
+    private record GoalEntry(MatchState match, int goals) {
+    }
+}
@@ -0,0 +1,19 @@
+package com.example.statistics;
+
+import com.example.scoreboard.ScoreBoard;
+
+/**
+ * Statistics state of a single match, tracked between scoreboard events.
+ */
+final class MatchState {
+    final ScoreBoard scoreBoard;
+    int lastTotalScore;
+    long windowGoals;
+    boolean active;
+    MoverIndex.Node node;
+
+    MatchState(ScoreBoard scoreBoard) {
+        this.scoreBoard = scoreBoard;
+        this.active = true;
+    }
+}
@@ -0,0 +1,148 @@
+package com.example.statistics;
+
+import java.util.ArrayList;
+import java.util.LinkedHashSet;
+import java.util.List;
+import java.util.Set;
+
+/**
+ * Keeps matches ordered by the number of goals scored within the statistics window.
+ * Matches with the same count share one node of a doubly linked list, sorted by count,
+ * so moving a match by a delta only walks past the counts in between,
+ * and reading the top N matches does not depend on the number of tracked matches.
+ * The implementation is Thread-unsafe.
+ */
+final class MoverIndex {
+    private Node highest;
+    private Node lowest;
+
+    /**
+     * Moves the match to the node of its current window goals. Matches with no goals are dropped from the index.
+     * @param match tracked match
+     */
+    void update(MatchState match) {
+        var from = match.node;
+        var count = match.windowGoals;
+
+        if (from != null) {
+            if (from.count == count) {
+                return;
+            }
+            from.members.remove(match);
+        }
+
+        if (count > 0) {
+            var target = locate(from, count);
+            target.members.add(match);
+            match.node = target;
+        } else {
+            match.node = null;
+        }
+
+        if (from != null && from.members.isEmpty()) {
+            unlink(from);
+        }
+    }
+
+    /**
+     * Removes the match from the index.
+     * @param match tracked match
+     */
+    void remove(MatchState match) {
+        var from = match.node;
+        if (from != null) {
+            from.members.remove(match);
+            match.node = null;
+            if (from.members.isEmpty()) {
+                unlink(from);
+            }
+        }
+    }
+
+    /**
+     * @param limit max number of matches to return
+     * @return matches with the most goals in the window, the busiest first
+     */
+    List<MatchState> top(int limit) {
+        var result = new ArrayList<MatchState>(limit);
+        for (var node = highest; node != null && result.size() < limit; node = node.lower) {
+            for (var match : node.members) {
+                if (result.size() == limit) {
+                    break;
+                }
+                result.add(match);
+            }
+        }
+        return result;
+    }
+
+    private Node locate(Node anchor, long count) {
+        if (anchor == null) {
+            if (lowest == null) {
+                var node = new Node(count);
+                highest = node;
+                lowest = node;
+                return node;
+            }
+            if (count < lowest.count) {
+                return insertBetween(null, lowest, count);
+            }
+            anchor = lowest;
+        }
+
+        var current = anchor;
+        if (count > current.count) {
+            while (current.higher != null && current.higher.count <= count) {
+                current = current.higher;
+            }
+            return current.count == count ? current : insertBetween(current, current.higher, count);
+        } else {
+            while (current.lower != null && current.lower.count >= count) {
+                current = current.lower;
+            }
+            return current.count == count ? current : insertBetween(current.lower, current, count);
+        }
+    }
+
+    private Node insertBetween(Node lower, Node higher, long count) {
+        var node = new Node(count);
+        node.lower = lower;
+        node.higher = higher;
+        if (lower != null) {
+            lower.higher = node;
+        } else {
+            lowest = node;
+        }
+        if (higher != null) {
+            higher.lower = node;
+        } else {
+            highest = node;
+        }
+        return node;
+    }
+
+    private void unlink(Node node) {
+        if (node.lower != null) {
+            node.lower.higher = node.higher;
+        } else {
+            lowest = node.higher;
+        }
+        if (node.higher != null) {
+            node.higher.lower = node.lower;
+        } else {
+            highest = node.lower;
+        }
+    }
+
+    static final class Node {
+        private final long count;
+        private final Set<MatchState> members;
+        private Node higher;
+        private Node lower;
+
+        private Node(long count) {
+            this.count = count;
+            this.members = new LinkedHashSet<>();
+        }
+    }
+}
@@ -0,0 +1,518 @@
+package com.example.replication;
+
+import com.example.exceptions.ReplicationException;
+import com.example.scoreboard.ReportableScoreBoard;
+import com.example.statistics.LiveStatistics;
+import com.example.summary.StringSummaryGenerator;
+import org.junit.jupiter.api.Test;
+
+import java.io.ByteArrayOutputStream;
+import java.io.DataOutputStream;
+import java.io.IOException;
+import java.net.InetAddress;
+import java.net.ServerSocket;
+import java.net.Socket;
+import java.time.Duration;
+import java.util.ArrayList;
+import java.util.List;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertFalse;
+import static org.junit.jupiter.api.Assertions.assertThrows;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+
+class ReplicationTest {
+    private static final long TCP_TIMEOUT_MILLIS = 5000;
+    private static final long MAX_LAG_MILLIS = 50;
+    private static final byte MATCH_STOPPED_CODE = 3;
+
+    @Test
+    public void shouldReplicateEventsToInProcessFollower() {
+        //given
+        var transport = new InProcessTransport();
+        var leader = new ReplicationLeader(transport, 1);
+        var leaderSummary = new StringSummaryGenerator();
+        var followerSummary = new StringSummaryGenerator();
+        var follower = new ReplicationFollower();
+        follower.addObserver(followerSummary);
+        transport.connect(follower);
+
+        var scoreBoardA = leaderScoreBoard(leader, leaderSummary);
+        var scoreBoardB = leaderScoreBoard(leader, leaderSummary);
+        var scoreBoardC = leaderScoreBoard(leader, leaderSummary);
+
+        //when
+        scoreBoardA.startMatch("homeTeamA", "awayTeamA");
+        scoreBoardB.startMatch("homeTeamB", "awayTeamB");
+        scoreBoardC.startMatch("homeTeamC", "awayTeamC");
+        scoreBoardA.updateScore(1, 0);
+        scoreBoardC.updateScore(2, 0);
+        scoreBoardB.finishMatch();
+
+        //then
+        assertEquals("""
+                1. homeTeamC 2 - awayTeamC 0
+                2. homeTeamA 1 - awayTeamA 0""",
+                followerSummary.generateSummary());
+        assertEquals(leaderSummary.generateSummary(), followerSummary.generateSummary());
+        assertEquals(leader.getSequence(), follower.getLastAppliedSequence());
+    }
+
+    @Test
+    public void shouldShipEventsInBatches() {
+        //given
+        var transport = new RecordingTransport();
+        var leader = new ReplicationLeader(transport, 2, Duration.ofMinutes(1));
+        var scoreBoard = leaderScoreBoard(leader, new StringSummaryGenerator());
+
+        //when
+        scoreBoard.startMatch("homeTeamA", "awayTeamA");
+        scoreBoard.updateScore(1, 0);
+        scoreBoard.updateScore(2, 0);
+
+        //then
+        assertEquals(1, transport.frames.size());
+        leader.flush();
+        assertEquals(2, transport.frames.size());
+    }
+
+    @Test
+    public void shouldCatchUpLateFollowerFromSnapshot() {
+        //given
+        var transport = new InProcessTransport();
+        var leader = new ReplicationLeader(transport, 1);
+        var leaderSummary = new StringSummaryGenerator();
+        var followerSummary = new StringSummaryGenerator();
+        var follower = new ReplicationFollower();
+        follower.addObserver(followerSummary);
+
+        var scoreBoardA = leaderScoreBoard(leader, leaderSummary);
+        var scoreBoardB = leaderScoreBoard(leader, leaderSummary);
+        scoreBoardA.startMatch("homeTeamA", "awayTeamA");
+        scoreBoardB.startMatch("homeTeamB", "awayTeamB");
+        scoreBoardA.updateScore(0, 5);
+        scoreBoardB.updateScore(5, 0);
+
+        //when
+        transport.connect(follower);
+        scoreBoardA.updateScore(1, 5);
+
+        //then
+        assertEquals("""
+                1. homeTeamA 1 - awayTeamA 5
+                2. homeTeamB 5 - awayTeamB 0""",
+                followerSummary.generateSummary());
+        assertEquals(leaderSummary.generateSummary(), followerSummary.generateSummary());
+    }
+
+    @Test
+    public void shouldCatchUpFromSnapshotWhenGapIsDetected() {
+        //given
+        var transport = new RecordingTransport();
+        var leader = new ReplicationLeader(transport, 1);
+        var followerSummary = new StringSummaryGenerator();
+        var follower = new ReplicationFollower();
+        var snapshotRequests = new ArrayList<Long>();
+        follower.addObserver(followerSummary);
+        follower.attach(() -> {
+            snapshotRequests.add(follower.getLastAppliedSequence());
+            leader.sendSnapshot(follower::apply);
+        });
+
+        var scoreBoard = leaderScoreBoard(leader, new StringSummaryGenerator());
+        scoreBoard.startMatch("homeTeamA", "awayTeamA");
+        scoreBoard.updateScore(1, 0);
+        scoreBoard.updateScore(2, 0);
+
+        //when
+        follower.apply(transport.frames.get(0));
+        follower.apply(transport.frames.get(2));
+
+        //then
+        assertEquals(List.of(0L, 1L), snapshotRequests);
+        assertEquals("1. homeTeamA 2 - awayTeamA 0", followerSummary.generateSummary());
+        assertEquals(3, follower.getLastAppliedSequence());
+    }
+
+    @Test
+    public void shouldSkipAlreadyAppliedEvents() {
+        //given
+        var transport = new InProcessTransport();
+        var leader = new ReplicationLeader(transport, 1);
+        var followerSummary = new StringSummaryGenerator();
+        var follower = new ReplicationFollower();
+        follower.addObserver(followerSummary);
+        transport.connect(follower);
+
+        var recordingTransport = new RecordingTransport();
+        var duplicatingLeader = new ReplicationLeader(recordingTransport, 1);
+        var scoreBoard = leaderScoreBoard(leader, new StringSummaryGenerator());
+        scoreBoard.addObserver(duplicatingLeader);
+
+        //when
+        scoreBoard.startMatch("homeTeamA", "awayTeamA");
+        scoreBoard.updateScore(1, 0);
+        recordingTransport.frames.forEach(follower::apply);
+
+        //then
+        assertEquals("1. homeTeamA 1 - awayTeamA 0", followerSummary.generateSummary());
+        assertEquals(2, follower.getLastAppliedSequence());
+    }
+
+    @Test
+    public void shouldReplicateOverTcp() throws InterruptedException {
+        //given
+        var server = new TcpReplicationServer(0);
+        var leader = new ReplicationLeader(server, 4);
+        var leaderSummary = new StringSummaryGenerator();
+        var followerSummary = new StringSummaryGenerator();
+        var follower = new ReplicationFollower();
+        follower.addObserver(followerSummary);
+
+        var scoreBoardA = leaderScoreBoard(leader, leaderSummary);
+        var scoreBoardB = leaderScoreBoard(leader, leaderSummary);
+        scoreBoardA.startMatch("homeTeamA", "awayTeamA");
+        scoreBoardA.updateScore(2, 0);
+
+        try (leader; var client = new TcpReplicationClient("localhost", server.getPort(), follower)) {
+            //when
+            scoreBoardB.startMatch("homeTeamB", "awayTeamB");
+            for (int i = 1; i <= 10; i++) {
+                scoreBoardB.updateScore(i, 0);
+            }
+            scoreBoardA.finishMatch();
+            leader.flush();
+
+            //then
+            awaitSequence(follower, leader.getSequence());
+            assertTrue(client.isConnected());
+            assertEquals(leader.getSequence(), follower.getLastAppliedSequence());
+            assertEquals("1. homeTeamB 10 - awayTeamB 0", followerSummary.generateSummary());
+        }
+    }
+
+    @Test
+    public void shouldShipLingeringBatchWithinLagBound() throws InterruptedException {
+        //given
+        var server = new TcpReplicationServer(0);
+        var leader = new ReplicationLeader(server, 64, Duration.ofMillis(1));
+        var follower = new ReplicationFollower();
+        var scoreBoard = leaderScoreBoard(leader, new StringSummaryGenerator());
+
+        try (leader; var client = new TcpReplicationClient("localhost", server.getPort(), follower)) {
+            scoreBoard.startMatch("homeTeamA", "awayTeamA");
+            awaitSequence(follower, leader.getSequence());
+
+            //when
+            var startNanos = System.nanoTime();
+            scoreBoard.updateScore(1, 0);
+            awaitSequence(follower, leader.getSequence());
+            var lagMillis = (System.nanoTime() - startNanos) / 1_000_000;
+
+            //then
+            assertEquals(leader.getSequence(), follower.getLastAppliedSequence());
+            assertTrue(lagMillis < MAX_LAG_MILLIS, String.format("Replication lag: [%s ms]", lagMillis));
+        }
+    }
+
+    @Test
+    public void shouldReplicateScoreBoardObservedAfterMatchStarted() {
+        //given
+        var transport = new InProcessTransport();
+        var leader = new ReplicationLeader(transport, 1);
+        var followerSummary = new StringSummaryGenerator();
+        var follower = new ReplicationFollower();
+        follower.addObserver(followerSummary);
+        transport.connect(follower);
+
+        var scoreBoard = new ReportableScoreBoard();
+        scoreBoard.startMatch("homeTeamA", "awayTeamA");
+
+        //when
+        scoreBoard.addObserver(leader);
+        scoreBoard.updateScore(1, 0);
+
+        //then
+        assertEquals("1. homeTeamA 1 - awayTeamA 0", followerSummary.generateSummary());
+        scoreBoard.finishMatch();
+        assertEquals("", followerSummary.generateSummary());
+        assertEquals(leader.getSequence(), follower.getLastAppliedSequence());
+    }
+
+    @Test
+    public void shouldNotReplicateFinishOfUnknownMatch() {
+        //given
+        var transport = new RecordingTransport();
+        var leader = new ReplicationLeader(transport, 1);
+        var scoreBoard = new ReportableScoreBoard();
+        scoreBoard.startMatch("homeTeamA", "awayTeamA");
+
+        //when
+        scoreBoard.addObserver(leader);
+        scoreBoard.finishMatch();
+
+        //then
+        assertEquals(0, leader.getSequence());
+        assertTrue(transport.frames.isEmpty());
+    }
+
+    @Test
+    public void shouldReplicateTeamNamesLongerThanModifiedUtf8Limit() {
+        //given
+        var transport = new InProcessTransport();
+        var leader = new ReplicationLeader(transport, 1);
+        var followerSummary = new StringSummaryGenerator();
+        var follower = new ReplicationFollower();
+        follower.addObserver(followerSummary);
+        transport.connect(follower);
+        var scoreBoardA = leaderScoreBoard(leader, new StringSummaryGenerator());
+        var scoreBoardB = leaderScoreBoard(leader, new StringSummaryGenerator());
+        var longTeamName = "a".repeat(70_000);
+
+        //when
+        scoreBoardA.startMatch(longTeamName, "awayTeamA");
+        scoreBoardB.startMatch("homeTeamB", "awayTeamB");
+
+        //then
+        assertEquals(String.format("""
+                1. homeTeamB 0 - awayTeamB 0
+                2. %s 0 - awayTeamA 0""", longTeamName),
+                followerSummary.generateSummary());
+    }
+
+    @Test
+    public void shouldCatchUpFromSnapshotWhenEventDoesNotMatchFollowerState() throws IOException {
+        //given
+        var transport = new RecordingTransport();
+        var leader = new ReplicationLeader(transport, 1);
+        var followerSummary = new StringSummaryGenerator();
+        var follower = new ReplicationFollower();
+        var snapshotRequests = new ArrayList<Long>();
+        follower.addObserver(followerSummary);
+        follower.attach(() -> {
+            snapshotRequests.add(follower.getLastAppliedSequence());
+            leader.sendSnapshot(follower::apply);
+        });
+
+        var scoreBoard = leaderScoreBoard(leader, new StringSummaryGenerator());
+        scoreBoard.startMatch("homeTeamA", "awayTeamA");
+        scoreBoard.updateScore(1, 0);
+
+        //when
+        follower.apply(eventsFrame(1, MATCH_STOPPED_CODE, 7));
+
+        //then
+        assertEquals(List.of(0L, 0L), snapshotRequests);
+        assertEquals("1. homeTeamA 1 - awayTeamA 0", followerSummary.generateSummary());
+        assertEquals(2, follower.getLastAppliedSequence());
+    }
+
+    @Test
+    public void shouldRejectMalformedFrames() throws IOException {
+        //given
+        var transport = new InProcessTransport();
+        var leader = new ReplicationLeader(transport, 1);
+        var followerSummary = new StringSummaryGenerator();
+        var follower = new ReplicationFollower();
+        follower.addObserver(followerSummary);
+        transport.connect(follower);
+        leaderScoreBoard(leader, new StringSummaryGenerator()).startMatch("homeTeamA", "awayTeamA");
+
+        //expect
+        assertThrows(ReplicationException.class, () -> follower.apply(new byte[0]));
+        assertThrows(ReplicationException.class, () -> follower.apply(new byte[]{42}));
+        assertThrows(ReplicationException.class, () -> follower.apply(eventsFrame(2, (byte) 9, 0)));
+        assertThrows(ReplicationException.class, () -> follower.apply(eventsFrame(2, (byte) -1, 0)));
+        assertThrows(ReplicationException.class, () -> follower.apply(eventsFrame(2, MATCH_STOPPED_CODE)));
+        assertEquals(1, follower.getLastAppliedSequence());
+        assertEquals("1. homeTeamA 0 - awayTeamA 0", followerSummary.generateSummary());
+    }
+
+    @Test
+    public void shouldUpdateActiveMatchesInPlaceWhenSnapshotIsApplied() {
+        //given
+        var transport = new InProcessTransport();
+        var leader = new ReplicationLeader(transport, 1);
+        var statistics = new LiveStatistics();
+        var followerSummary = new StringSummaryGenerator();
+        var follower = new ReplicationFollower();
+        follower.addObserver(statistics);
+        follower.addObserver(followerSummary);
+        transport.connect(follower);
+
+        var scoreBoardA = leaderScoreBoard(leader, new StringSummaryGenerator());
+        var scoreBoardB = leaderScoreBoard(leader, new StringSummaryGenerator());
+        var scoreBoardC = leaderScoreBoard(leader, new StringSummaryGenerator());
+        scoreBoardA.startMatch("homeTeamA", "awayTeamA");
+        scoreBoardB.startMatch("homeTeamB", "awayTeamB");
+        scoreBoardA.updateScore(2, 1);
+        scoreBoardB.updateScore(1, 1);
+        transport.disconnect(follower);
+        scoreBoardA.updateScore(3, 1);
+        scoreBoardB.finishMatch();
+        scoreBoardC.startMatch("homeTeamC", "awayTeamC");
+
+        //when
+        leader.sendSnapshot(follower::apply);
+
+        //then
+        assertEquals(6, statistics.getTotalScore());
+        assertEquals(6, statistics.getGoalsPerMinute());
+        assertEquals(3, follower.getScoreBoards().size());
+        assertEquals("""
+                1. homeTeamA 3 - awayTeamA 1
+                2. homeTeamC 0 - awayTeamC 0""",
+                followerSummary.generateSummary());
+        assertEquals(leader.getSequence(), follower.getLastAppliedSequence());
+    }
+
+    @Test
+    public void shouldNotBlockLeaderOnStalledFollower() throws Exception {
+        //given
+        var server = new TcpReplicationServer(0, 4);
+        var leader = new ReplicationLeader(server, 1);
+        var follower = new ReplicationFollower();
+        var scoreBoard = leaderScoreBoard(leader, new StringSummaryGenerator());
+        var longTeamName = "a".repeat(10_000);
+
+        try (leader;
+             var stalledFollower = new Socket("localhost", server.getPort());
+             var client = new TcpReplicationClient("localhost", server.getPort(), follower)) {
+            //when
+            var updates = new Thread(() -> {
+                for (int i = 0; i < 3000; i++) {
+                    scoreBoard.startMatch(longTeamName, "awayTeam");
+                    scoreBoard.finishMatch();
+                }
+                scoreBoard.startMatch("homeTeamA", "awayTeamA");
+            });
+            updates.start();
+            updates.join(TCP_TIMEOUT_MILLIS);
+
+            //then
+            assertFalse(updates.isAlive());
+            awaitSequence(follower, leader.getSequence());
+            assertEquals(leader.getSequence(), follower.getLastAppliedSequence());
+            assertTrue(client.isConnected());
+            assertFalse(stalledFollower.isClosed());
+        }
+    }
+
+    @Test
+    public void shouldReadFollowerSummaryWhileFramesAreArriving() throws InterruptedException {
+        //given
+        var server = new TcpReplicationServer(0);
+        var leader = new ReplicationLeader(server, 4);
+        var leaderSummary = new StringSummaryGenerator();
+        var followerSummary = new StringSummaryGenerator();
+        var follower = new ReplicationFollower();
+        follower.addObserver(followerSummary);
+        var scoreBoardA = leaderScoreBoard(leader, leaderSummary);
+        var scoreBoardB = leaderScoreBoard(leader, leaderSummary);
+        scoreBoardB.startMatch("homeTeamB", "awayTeamB");
+
+        try (leader; var client = new TcpReplicationClient("localhost", server.getPort(), follower)) {
+            var updates = new Thread(() -> {
+                for (int i = 0; i < 20_000; i++) {
+                    scoreBoardA.startMatch("homeTeamA", "awayTeamA");
+                    scoreBoardA.updateScore(1, 0);
+                    scoreBoardA.finishMatch();
+                }
+                scoreBoardB.updateScore(1, 0);
+            });
+            updates.start();
+
+            //when
+            var summaries = 0;
+            while (updates.isAlive()) {
+                follower.read(followerSummary::generateSummary);
+                summaries++;
+            }
+            leader.flush();
+
+            //then
+            awaitSequence(follower, leader.getSequence());
+            assertTrue(summaries > 0);
+            assertEquals(leaderSummary.generateSummary(), follower.read(followerSummary::generateSummary));
+        }
+    }
+
+    @Test
+    public void shouldDisconnectWhenFrameLengthIsInvalid() throws Exception {
+        for (var length : new int[]{-5, 0, Integer.MAX_VALUE}) {
+            //given
+            try (var leaderSocket = new ServerSocket(0, 0, InetAddress.getLoopbackAddress());
+                 var client = new TcpReplicationClient("localhost", leaderSocket.getLocalPort(), new ReplicationFollower());
+                 var connection = leaderSocket.accept()) {
+                //when
+                new DataOutputStream(connection.getOutputStream()).writeInt(length);
+
+                //then
+                var deadline = System.currentTimeMillis() + TCP_TIMEOUT_MILLIS;
+                while (client.isConnected() && System.currentTimeMillis() < deadline) {
+                    Thread.sleep(1);
+                }
+                assertFalse(client.isConnected(), String.format("Frame length: [%s]", length));
+            }
+        }
+    }
+
+    @Test
+    public void shouldThrowAnExceptionWhenEventsAreMissedWithoutSnapshotRequester() {
+        //given
+        var transport = new RecordingTransport();
+        var leader = new ReplicationLeader(transport, 1);
+        var follower = new ReplicationFollower();
+        var scoreBoard = leaderScoreBoard(leader, new StringSummaryGenerator());
+        scoreBoard.startMatch("homeTeamA", "awayTeamA");
+        scoreBoard.updateScore(1, 0);
+        scoreBoard.updateScore(2, 0);
+        follower.apply(transport.frames.get(0));
+
+        //expect
+        assertThrows(ReplicationException.class, () -> follower.apply(transport.frames.get(2)));
+        assertEquals(1, follower.getLastAppliedSequence());
+        assertFalse(follower.isAwaitingSnapshot());
+    }
+
+    private static ReportableScoreBoard leaderScoreBoard(ReplicationLeader leader, StringSummaryGenerator summary) {
+        var scoreBoard = new ReportableScoreBoard();
+        scoreBoard.addObserver(summary);
+        scoreBoard.addObserver(leader);
+        return scoreBoard;
+    }
+
+    private static void awaitSequence(ReplicationFollower follower, long sequence) throws InterruptedException {
+        var deadline = System.currentTimeMillis() + TCP_TIMEOUT_MILLIS;
+        while (follower.getLastAppliedSequence() < sequence && System.currentTimeMillis() < deadline) {
+            Thread.sleep(0, 100_000);
+        }
+    }
+
+    private static byte[] eventsFrame(long sequence, byte eventCode, int... boardIds) throws IOException {
+        var frame = new ByteArrayOutputStream();
+        try (var output = new DataOutputStream(frame)) {
+            output.writeByte(Frames.EVENTS);
+            output.writeLong(sequence);
+            output.writeInt(1);
+            output.writeByte(eventCode);
+            for (var boardId : boardIds) {
+                output.writeInt(boardId);
+            }
+        }
+        return frame.toByteArray();
+    }
+
+    private static final class RecordingTransport implements ReplicationTransport {
+        private final List<byte[]> frames = new ArrayList<>();
+
+        @Override
+        public void open(SnapshotSource snapshots) {
+        }
+
+        @Override
+        public void publish(byte[] frame) {
+            frames.add(frame);
+        }
+    }
+}
@@ -0,0 +1,220 @@
+package com.example.scoreboard;
+
+import com.example.exceptions.MatchAlreadyStartedException;
+import com.example.exceptions.NoActiveMatchException;
+import com.example.exceptions.StorageException;
+import org.junit.jupiter.api.Test;
+
+import java.io.IOException;
+import java.nio.ByteBuffer;
+import java.nio.ByteOrder;
+import java.nio.channels.FileChannel;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.nio.file.StandardOpenOption;
+import java.util.Optional;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertThrows;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+
+class OffHeapScoreBoardTest {
+    private static final String A_HOME_TEAM = "AHomeTeam";
+    private static final String AN_AWAY_TEAM = "AnAwayTeam";
+    private static final int TEAM_COUNT_OFFSET = 16;
+    private static final int FIRST_TEAM_OFFSET = 32;
+    private static final int TEAM_SIZE = 64;
+
+    @Test
+    public void shouldStartUpdateAndFinishMatch() {
+        //given
+        var store = new OffHeapScoreBoardStore(10, 4);
+        var scoreBoard = store.scoreBoard(3);
+
+        //when
+        scoreBoard.startMatch(A_HOME_TEAM, AN_AWAY_TEAM);
+        scoreBoard.updateScore(2, 1);
+
+        //then
+        assertEquals(A_HOME_TEAM, scoreBoard.getHomeTeam().orElseThrow());
+        assertEquals(AN_AWAY_TEAM, scoreBoard.getAwayTeam().orElseThrow());
+        assertEquals(2, scoreBoard.getHomeScore().orElseThrow());
+        assertEquals(1, scoreBoard.getAwayScore().orElseThrow());
+
+        scoreBoard.finishMatch();
+        assertEquals(Optional.empty(), scoreBoard.getHomeTeam());
+        assertEquals(Optional.empty(), scoreBoard.getHomeScore());
+    }
+
+    @Test
+    public void shouldBehaveAsDefaultScoreBoard() {
+        //given
+        var store = new OffHeapScoreBoardStore(1, 2);
+        var scoreBoard = store.scoreBoard(0);
+
+        //expect
+        assertThrows(NoActiveMatchException.class, () -> scoreBoard.updateScore(1, 1));
+        assertThrows(NoActiveMatchException.class, scoreBoard::finishMatch);
+        assertThrows(IllegalArgumentException.class, () -> scoreBoard.startMatch(" ", AN_AWAY_TEAM));
+
+        scoreBoard.startMatch(A_HOME_TEAM, AN_AWAY_TEAM);
+        assertThrows(MatchAlreadyStartedException.class, () -> scoreBoard.startMatch(A_HOME_TEAM, AN_AWAY_TEAM));
+        assertThrows(IllegalArgumentException.class, () -> scoreBoard.updateScore(-1, 0));
+    }
+
+    @Test
+    public void shouldResetScoreWhenMatchIsStartedAgain() {
+        //given
+        var store = new OffHeapScoreBoardStore(1, 2);
+        var scoreBoard = store.scoreBoard(0);
+
+        //when
+        scoreBoard.startMatch(A_HOME_TEAM, AN_AWAY_TEAM);
+        scoreBoard.updateScore(3, 3);
+        scoreBoard.finishMatch();
+        scoreBoard.startMatch(AN_AWAY_TEAM, A_HOME_TEAM);
+
+        //then
+        assertEquals(AN_AWAY_TEAM, scoreBoard.getHomeTeam().orElseThrow());
+        assertEquals(0, scoreBoard.getHomeScore().orElseThrow());
+        assertEquals(0, scoreBoard.getAwayScore().orElseThrow());
+    }
+
+    @Test
+    public void shouldMoveViewBetweenScoreBoards() {
+        //given
+        var store = new OffHeapScoreBoardStore(3, 6);
+        store.scoreBoard(0).startMatch("homeTeamA", "awayTeamA");
+        store.scoreBoard(2).startMatch("homeTeamC", "awayTeamC");
+        store.scoreBoard(2).updateScore(1, 0);
+
+        //when
+        var scoreBoard = store.scoreBoard(0);
+
+        //then
+        assertEquals(1, scoreBoard.getStartSequence().orElseThrow());
+        assertTrue(scoreBoard.moveTo(1).getHomeTeam().isEmpty());
+        assertEquals("homeTeamC", scoreBoard.moveTo(2).getHomeTeam().orElseThrow());
+        assertEquals(1, scoreBoard.getHomeScore().orElseThrow());
+        assertEquals(2, scoreBoard.getStartSequence().orElseThrow());
+        assertThrows(IndexOutOfBoundsException.class, () -> scoreBoard.moveTo(3));
+    }
+
+    @Test
+    public void shouldThrowAnExceptionWhenTeamCapacityIsExceeded() {
+        //given
+        var store = new OffHeapScoreBoardStore(2, 3);
+        store.scoreBoard(0).startMatch("homeTeamA", "awayTeamA");
+
+        //expect
+        assertThrows(StorageException.class, () -> store.scoreBoard(1).startMatch("homeTeamB", "awayTeamB"));
+        assertTrue(store.scoreBoard(1).getHomeTeam().isEmpty());
+    }
+
+    @Test
+    public void shouldNotUseTeamSlotsOfMatchWhichFailedToStart() {
+        //given
+        var store = new OffHeapScoreBoardStore(2, 3);
+        var tooLongTeamName = "a".repeat(64);
+        store.scoreBoard(0).startMatch("homeTeamA", "awayTeamA");
+
+        //when
+        assertThrows(StorageException.class, () -> store.scoreBoard(1).startMatch("homeTeamB", "awayTeamB"));
+        assertThrows(IllegalArgumentException.class, () -> store.scoreBoard(1).startMatch("homeTeamB", tooLongTeamName));
+        store.scoreBoard(1).startMatch("homeTeamA", "homeTeamB");
+
+        //then
+        assertEquals("homeTeamB", store.scoreBoard(1).getAwayTeam().orElseThrow());
+    }
+
+    @Test
+    public void shouldRestoreMatchesFromMappedFile() throws IOException {
+        //given
+        var file = Files.createTempFile("scoreboards", ".bin");
+        file.toFile().deleteOnExit();
+        Files.delete(file);
+
+        try (var store = new OffHeapScoreBoardStore(file, 100, 10)) {
+            store.scoreBoard(42).startMatch(A_HOME_TEAM, AN_AWAY_TEAM);
+            store.scoreBoard(42).updateScore(4, 2);
+        }
+
+        //when
+        try (var store = new OffHeapScoreBoardStore(file, 100, 10)) {
+            var scoreBoard = store.scoreBoard(42);
+
+            //then
+            assertEquals(A_HOME_TEAM, scoreBoard.getHomeTeam().orElseThrow());
+            assertEquals(AN_AWAY_TEAM, scoreBoard.getAwayTeam().orElseThrow());
+            assertEquals(4, scoreBoard.getHomeScore().orElseThrow());
+            assertEquals(2, scoreBoard.getAwayScore().orElseThrow());
+            assertTrue(store.scoreBoard(41).getHomeTeam().isEmpty());
+        }
+        assertThrows(StorageException.class, () -> new OffHeapScoreBoardStore(file, 50, 10));
+    }
+
+    @Test
+    public void shouldNotChangeExistingFileWhichIsNotMatchingStore() throws IOException {
+        //given
+        var directory = Files.createTempDirectory("scoreboards");
+        var textFile = Files.writeString(directory.resolve("notes.txt"), "hello world");
+        var storeFile = directory.resolve("scoreboards.bin");
+        directory.toFile().deleteOnExit();
+        textFile.toFile().deleteOnExit();
+        storeFile.toFile().deleteOnExit();
+        new OffHeapScoreBoardStore(storeFile, 10, 2).close();
+        var storeFileSize = Files.size(storeFile);
+
+        //expect
+        assertThrows(StorageException.class, () -> new OffHeapScoreBoardStore(textFile, 100, 10));
+        assertEquals("hello world", Files.readString(textFile));
+        assertThrows(StorageException.class, () -> new OffHeapScoreBoardStore(storeFile, 100, 10));
+        assertEquals(storeFileSize, Files.size(storeFile));
+    }
+
+    @Test
+    public void shouldThrowAnExceptionWhenTeamTableIsCorrupted() throws IOException {
+        //given
+        var file = Files.createTempFile("scoreboards", ".bin");
+        file.toFile().deleteOnExit();
+        Files.delete(file);
+        try (var store = new OffHeapScoreBoardStore(file, 2, 4)) {
+            store.scoreBoard(0).startMatch(A_HOME_TEAM, AN_AWAY_TEAM);
+        }
+        var validFile = Files.readAllBytes(file);
+        var homeTeamIdOffset = FIRST_TEAM_OFFSET + 4 * TEAM_SIZE + OffHeapScoreBoardStore.RECORD_HOME_TEAM;
+
+        //expect
+        overwrite(file, TEAM_COUNT_OFFSET, 5);
+        assertThrows(StorageException.class, () -> new OffHeapScoreBoardStore(file, 2, 4));
+
+        Files.write(file, validFile);
+        overwrite(file, FIRST_TEAM_OFFSET, (byte) -5);
+        assertThrows(StorageException.class, () -> new OffHeapScoreBoardStore(file, 2, 4));
+
+        Files.write(file, validFile);
+        overwrite(file, FIRST_TEAM_OFFSET + TEAM_SIZE, (byte) 64);
+        assertThrows(StorageException.class, () -> new OffHeapScoreBoardStore(file, 2, 4));
+
+        Files.write(file, validFile);
+        overwrite(file, homeTeamIdOffset, -1);
+        try (var store = new OffHeapScoreBoardStore(file, 2, 4)) {
+            assertThrows(StorageException.class, () -> store.scoreBoard(0).getHomeTeam());
+            assertEquals(AN_AWAY_TEAM, store.scoreBoard(0).getAwayTeam().orElseThrow());
+        }
+    }
+
+    private static void overwrite(Path file, int position, int value) throws IOException {
+        overwrite(file, position, ByteBuffer.allocate(Integer.BYTES).order(ByteOrder.LITTLE_ENDIAN).putInt(0, value));
+    }
+
+    private static void overwrite(Path file, int position, byte value) throws IOException {
+        overwrite(file, position, ByteBuffer.wrap(new byte[]{value}));
+    }
+
+    private static void overwrite(Path file, int position, ByteBuffer bytes) throws IOException {
+        try (var channel = FileChannel.open(file, StandardOpenOption.WRITE)) {
+            channel.write(bytes, position);
+        }
+    }
+}
@@ -0,0 +1,149 @@
+package com.example.statistics;
+
+import com.example.scoreboard.ReportableScoreBoard;
+import org.junit.jupiter.api.Test;
+
+import java.time.Clock;
+import java.time.Duration;
+import java.time.Instant;
+import java.time.ZoneId;
+import java.time.ZoneOffset;
+import java.util.List;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertThrows;
+
+class LiveStatisticsTest {
+    private static final Duration MOVERS_WINDOW = Duration.ofMinutes(5);
+
+    @Test
+    public void shouldCountGoalsScoredDuringLastMinute() {
+        //given
+        var clock = new MutableClock();
+        var statistics = new LiveStatistics(clock, MOVERS_WINDOW, 3);
+        var scoreBoardA = new ReportableScoreBoard();
+        var scoreBoardB = new ReportableScoreBoard();
+        scoreBoardA.addObserver(statistics);
+        scoreBoardB.addObserver(statistics);
+
+        //when
+        scoreBoardA.startMatch("homeTeamA", "awayTeamA");
+        scoreBoardB.startMatch("homeTeamB", "awayTeamB");
+        scoreBoardA.updateScore(1, 0);
+        clock.advance(Duration.ofSeconds(30));
+        scoreBoardB.updateScore(1, 1);
+        scoreBoardA.updateScore(2, 0);
+
+        //then
+        assertEquals(4, statistics.getGoalsPerMinute());
+        clock.advance(Duration.ofSeconds(30));
+        assertEquals(3, statistics.getGoalsPerMinute());
+        clock.advance(Duration.ofSeconds(30));
+        assertEquals(0, statistics.getGoalsPerMinute());
+    }
+
+    @Test
+    public void shouldReturnBusiestMatchesWithinMoversWindow() {
+        //given
+        var clock = new MutableClock();
+        var statistics = new LiveStatistics(clock, MOVERS_WINDOW, 2);
+        var scoreBoardA = new ReportableScoreBoard();
+        var scoreBoardB = new ReportableScoreBoard();
+        var scoreBoardC = new ReportableScoreBoard();
+        scoreBoardA.addObserver(statistics);
+        scoreBoardB.addObserver(statistics);
+        scoreBoardC.addObserver(statistics);
+
+        //when
+        scoreBoardA.startMatch("homeTeamA", "awayTeamA");
+        scoreBoardB.startMatch("homeTeamB", "awayTeamB");
+        scoreBoardC.startMatch("homeTeamC", "awayTeamC");
+        scoreBoardA.updateScore(3, 0);
+        clock.advance(Duration.ofMinutes(2));
+        scoreBoardB.updateScore(1, 1);
+        scoreBoardC.updateScore(1, 0);
+
+        //then
+        assertEquals(List.of(scoreBoardA, scoreBoardB), statistics.getTopMovers());
+        clock.advance(Duration.ofMinutes(4));
+        assertEquals(List.of(scoreBoardB, scoreBoardC), statistics.getTopMovers());
+        clock.advance(Duration.ofMinutes(5));
+        assertEquals(List.of(), statistics.getTopMovers());
+    }
+
+    @Test
+    public void shouldNotReturnFinishedMatchesAsTopMovers() {
+        //given
+        var clock = new MutableClock();
+        var statistics = new LiveStatistics(clock, MOVERS_WINDOW, 3);
+        var scoreBoardA = new ReportableScoreBoard();
+        var scoreBoardB = new ReportableScoreBoard();
+        scoreBoardA.addObserver(statistics);
+        scoreBoardB.addObserver(statistics);
+
+        //when
+        scoreBoardA.startMatch("homeTeamA", "awayTeamA");
+        scoreBoardB.startMatch("homeTeamB", "awayTeamB");
+        scoreBoardA.updateScore(2, 2);
+        scoreBoardB.updateScore(0, 1);
+        scoreBoardA.finishMatch();
+
+        //then
+        assertEquals(List.of(scoreBoardB), statistics.getTopMovers());
+        assertEquals(5, statistics.getGoalsPerMinute());
+    }
+
+    @Test
+    public void shouldSumTotalScoreIncludingFinishedMatchesAndCorrections() {
+        //given
+        var clock = new MutableClock();
+        var statistics = new LiveStatistics(clock, MOVERS_WINDOW, 3);
+        var scoreBoardA = new ReportableScoreBoard();
+        var scoreBoardB = new ReportableScoreBoard();
+        scoreBoardA.addObserver(statistics);
+        scoreBoardB.addObserver(statistics);
+
+        //when
+        scoreBoardA.startMatch("homeTeamA", "awayTeamA");
+        scoreBoardB.startMatch("homeTeamB", "awayTeamB");
+        scoreBoardA.updateScore(2, 1);
+        scoreBoardA.finishMatch();
+        scoreBoardB.updateScore(3, 0);
+        scoreBoardB.updateScore(2, 0);
+
+        //then
+        assertEquals(5, statistics.getTotalScore());
+        assertEquals(6, statistics.getGoalsPerMinute());
+    }
+
+    @Test
+    public void shouldThrowAnExceptionWhenMoversWindowIsShorterThanMinute() {
+        //expect
+        assertThrows(
+                IllegalArgumentException.class,
+                () -> new LiveStatistics(new MutableClock(), Duration.ofSeconds(59), 3));
+    }
+
+    private static final class MutableClock extends Clock {
+        private Instant instant = Instant.EPOCH;
+
+        void advance(Duration duration) {
+            instant = instant.plus(duration);
+        }
+
+        @Override
+        public ZoneId getZone() {
+            return ZoneOffset.UTC;
+        }
+
+        @Override
+        public Clock withZone(ZoneId zone) {
+            return this;
+        }
+
+        @Override
+        public Instant instant() {
+            return instant;
+        }
+    }
+}